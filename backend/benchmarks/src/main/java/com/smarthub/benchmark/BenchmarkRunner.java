@@ -0,0 +1,34 @@
+package com.smarthub.benchmark;
+
+import org.openjdk.jmh.Main;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of benchmarks.jar: the JMH command line, with a JSON report by default.
+ *
+ * Without -rf / -rff the results are written to target/jmh-result.json, so two runs can be compared
+ * by diffing the primaryMetric scores (or loading both files into a JMH visualizer) to spot
+ * regressions between commits. Every other argument goes to JMH unchanged.
+ */
+public class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!arguments.contains("-rf")) {
+            arguments.add("-rf");
+            arguments.add("json");
+        }
+        if (!arguments.contains("-rff")) {
+            new File(DEFAULT_RESULT).getParentFile().mkdirs();
+            arguments.add("-rff");
+            arguments.add(DEFAULT_RESULT);
+        }
+        Main.main(arguments.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,75 @@
+package com.smarthub.benchmark;
+
+import com.smarthub.SmartServiceHubApplication;
+import com.smarthub.dto.ProviderImportResult;
+import com.smarthub.service.ProviderImportService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Starts the real application context on an in-memory H2 database (MySQL mode), so the
+ * repository-backed benchmarks go through the same services, aspects, Hibernate mappings and Flyway
+ * schema as production, without a MySQL server or a web server.
+ */
+public final class InMemoryApplication {
+
+    public static final String[] SERVICE_TYPES = {"Plumbing", "Electrical", "Cleaning", "Painting", "Carpentry"};
+    public static final String[] LOCATIONS = {"Pune", "Mumbai", "Bengaluru", "Chennai", "Delhi", "Hyderabad"};
+
+    private InMemoryApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return start(databaseName, Map.of());
+    }
+
+    // Extra properties (Hibernate hooks a benchmark needs) override the defaults below
+    public static ConfigurableApplicationContext start(String databaseName, Map<String, Object> overrides) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + databaseName
+            + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("schema.explain-check.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+
+        properties.put("spring.main.banner-mode", "off");
+        properties.putAll(overrides);
+
+        // Passed as arguments so they win over application.properties in the backend jar
+        SpringApplication application = new SpringApplication(SmartServiceHubApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        return application.run(properties.entrySet().stream()
+            .map(property -> "--" + property.getKey() + "=" + property.getValue())
+            .toArray(String[]::new));
+    }
+
+    // Registers providers through the CSV import, which hashes the shared password only once
+    public static void importProviders(ConfigurableApplicationContext context, int count) throws IOException {
+        StringBuilder csv = new StringBuilder("fullName,mobile,email,serviceType,experience,price,location\n");
+        for (int i = 0; i < count; i++) {
+            csv.append("Provider ").append(i).append(',')
+                .append(8000000000L + i).append(',')
+                .append("provider").append(i).append("@example.com,")
+                .append(SERVICE_TYPES[i % SERVICE_TYPES.length]).append(',')
+                .append(i % 15).append(',')
+                .append(200 + i % 800).append(',')
+                .append(LOCATIONS[i % LOCATIONS.length]).append('\n');
+        }
+        ProviderImportResult result = context.getBean(ProviderImportService.class)
+            .importCsv(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), "Bench#2024");
+        if (result.getImported() != count) {
+            throw new IllegalStateException("Imported " + result.getImported() + " of " + count + " providers: " + result.getErrors());
+        }
+    }
+}
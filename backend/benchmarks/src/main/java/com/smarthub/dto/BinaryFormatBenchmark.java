@@ -0,0 +1,139 @@
+package com.smarthub.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.smarthub.config.FieldsFilterAdvice;
+import com.smarthub.entity.Booking;
+import com.smarthub.entity.ServiceProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JSON, CBOR and Smile for the booking and provider lists, encoded and decoded with mappers built
+ * the way BinaryFormatsConfig builds the HTTP converters. Payload sizes, raw and gzipped, are
+ * printed once per trial since JMH only scores time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    private static final TypeReference<List<Booking>> BOOKINGS = new TypeReference<>() {
+    };
+    private static final TypeReference<List<ServiceProvider>> PROVIDERS = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private List<Booking> bookings;
+    private List<ServiceProvider> providers;
+    private byte[] encodedBookings;
+    private byte[] encodedProviders;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        FieldsFilterAdvice.fieldsFilterCustomizer().customize(builder);
+        mapper = builder.factory(factory(format)).build();
+
+        Booking.BookingStatus[] statuses = Booking.BookingStatus.values();
+        String[] serviceTypes = {"Plumbing", "Electrical", "Cleaning", "Painting", "Carpentry"};
+        String[] locations = {"Pune", "Mumbai", "Bengaluru", "Chennai", "Delhi", "Hyderabad"};
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 9, 0);
+        bookings = new ArrayList<>(size);
+        providers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Booking booking = new Booking();
+            booking.setBookingId(i + 1);
+            booking.setUserId(1 + i % 50);
+            booking.setProviderId(1 + i % 20);
+            booking.setServiceType(serviceTypes[i % serviceTypes.length]);
+            booking.setBookingDate(LocalDate.of(2025, 2, 1).plusDays(i % 28));
+            booking.setBookingTime(LocalTime.of(8 + i % 10, 30));
+            booking.setStatus(statuses[i % statuses.length]);
+            booking.setCreatedAt(created.plusMinutes(i));
+            booking.setUpdatedAt(created.plusMinutes(i + 5));
+            bookings.add(booking);
+
+            ServiceProvider provider = new ServiceProvider();
+            provider.setId(i + 1);
+            provider.setFullName("Provider " + i);
+            provider.setEmail("provider" + i + "@example.com");
+            provider.setMobile(String.valueOf(8000000000L + i));
+            provider.setServiceType(serviceTypes[i % serviceTypes.length]);
+            provider.setExperience(i % 15);
+            provider.setPrice(BigDecimal.valueOf(200 + i % 800));
+            provider.setAvailability("Mon-Sat 9:00-18:00");
+            provider.setLocation(locations[i % locations.length]);
+            provider.setCreatedAt(created.plusMinutes(i));
+            provider.setUpdatedAt(created.plusMinutes(i + 5));
+            providers.add(provider);
+        }
+
+        encodedBookings = mapper.writeValueAsBytes(bookings);
+        encodedProviders = mapper.writeValueAsBytes(providers);
+        System.out.printf("%n%s, %d rows: bookings %d bytes (gzip %d), providers %d bytes (gzip %d)%n", format, size,
+            encodedBookings.length, gzipped(encodedBookings), encodedProviders.length, gzipped(encodedProviders));
+    }
+
+    @Benchmark
+    public byte[] encodeBookings() throws IOException {
+        return mapper.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public List<Booking> decodeBookings() throws IOException {
+        return mapper.readValue(encodedBookings, BOOKINGS);
+    }
+
+    @Benchmark
+    public byte[] encodeProviders() throws IOException {
+        return mapper.writeValueAsBytes(providers);
+    }
+
+    @Benchmark
+    public List<ServiceProvider> decodeProviders() throws IOException {
+        return mapper.readValue(encodedProviders, PROVIDERS);
+    }
+
+    private static JsonFactory factory(String format) {
+        switch (format) {
+            case "cbor":
+                return new CBORFactory();
+            case "smile":
+                return new SmileFactory();
+            default:
+                return new JsonFactory();
+        }
+    }
+
+    private static int gzipped(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,83 @@
+package com.smarthub.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.smarthub.config.FieldsFilterAdvice;
+import com.smarthub.entity.Booking;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON for booking lists: the Booking entities the API used to return, the BookingView records it
+ * returns now, and a ?fields= sparse fieldset. The mapper is built like Boot's, including the
+ * default fields filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingJsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private List<Booking> entities;
+    private List<BookingView> views;
+    private ObjectMapper objectMapper;
+    private ObjectWriter sparseWriter;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        FieldsFilterAdvice.fieldsFilterCustomizer().customize(builder);
+        objectMapper = builder.build();
+        sparseWriter = objectMapper.writer(new SimpleFilterProvider().addFilter(FieldsFilterAdvice.FILTER_ID,
+            SimpleBeanPropertyFilter.filterOutAllExcept(Set.of("bookingId", "status", "bookingDate"))));
+
+        Booking.BookingStatus[] statuses = Booking.BookingStatus.values();
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 9, 0);
+        entities = new ArrayList<>(size);
+        views = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Booking booking = new Booking();
+            booking.setBookingId(i + 1);
+            booking.setUserId(1 + i % 50);
+            booking.setProviderId(1 + i % 20);
+            booking.setServiceType(i % 2 == 0 ? "Plumbing" : "Cleaning");
+            booking.setBookingDate(LocalDate.of(2025, 2, 1).plusDays(i % 28));
+            booking.setBookingTime(LocalTime.of(8 + i % 10, 30));
+            booking.setStatus(statuses[i % statuses.length]);
+            booking.setCreatedAt(created.plusMinutes(i));
+            booking.setUpdatedAt(created.plusMinutes(i + 5));
+            entities.add(booking);
+            views.add(BookingView.from(booking));
+        }
+    }
+
+    @Benchmark
+    public byte[] entities() throws Exception {
+        return objectMapper.writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public byte[] views() throws Exception {
+        return objectMapper.writeValueAsBytes(views);
+    }
+
+    @Benchmark
+    public byte[] sparseViews() throws Exception {
+        return sparseWriter.writeValueAsBytes(views);
+    }
+}
@@ -0,0 +1,140 @@
+package com.smarthub.repository;
+
+import com.smarthub.benchmark.InMemoryApplication;
+import com.smarthub.entity.Booking;
+import com.smarthub.entity.Notification;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * saveAll of bookings and notifications in one transaction, the write pattern of the dataset
+ * generator. Both take their ids from the pooled table generator, so the inserts should leave in
+ * JDBC batches of hibernate.jdbc.batch_size.
+ *
+ * Hibernate statistics count the inserts and prepared statements, and a session listener counts
+ * the batches executed. Every iteration prints them per operation and fails the run if fewer
+ * batches went out than the rows need, so a change that turns batching off (an IDENTITY id, a
+ * flush per row) shows up as an error rather than as a slower score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    private static final AtomicLong BATCHES = new AtomicLong();
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private BookingRepository bookingRepository;
+    private NotificationRepository notificationRepository;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private int batchSize;
+
+    private long operations;
+    private long batchesBefore;
+    private long insertsBefore;
+    private long statementsBefore;
+
+    // Instantiated by Hibernate for every session (hibernate.session.events.auto)
+    public static class BatchCounter implements SessionEventListener {
+        @Override
+        public void jdbcExecuteBatchStart() {
+            BATCHES.incrementAndGet();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = InMemoryApplication.start("batch-inserts",
+            Map.of("spring.jpa.properties.hibernate.session.events.auto", BatchCounter.class.getName()));
+        bookingRepository = context.getBean(BookingRepository.class);
+        notificationRepository = context.getBean(NotificationRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        batchSize = context.getEnvironment().getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", Integer.class, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void startCounting() {
+        operations = 0;
+        batchesBefore = BATCHES.get();
+        insertsBefore = statistics.getEntityInsertCount();
+        statementsBefore = statistics.getPrepareStatementCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkBatching() {
+        long batches = BATCHES.get() - batchesBefore;
+        long inserts = statistics.getEntityInsertCount() - insertsBefore;
+        long statements = statistics.getPrepareStatementCount() - statementsBefore;
+        long expectedBatches = operations * 2 * ((rows + batchSize - 1) / batchSize);
+        System.out.printf("%n%d rows: per operation %.1f inserts, %.1f JDBC batches, %.1f prepared statements%n",
+            rows, (double) inserts / operations, (double) batches / operations, (double) statements / operations);
+        if (inserts != operations * 2 * rows || batches < expectedBatches) {
+            throw new IllegalStateException("Expected " + operations * 2 * rows + " inserts in at least " + expectedBatches
+                + " batches of " + batchSize + ", got " + inserts + " inserts in " + batches + " batches");
+        }
+    }
+
+    @Benchmark
+    public int saveAll() {
+        long first = operations++ * rows;
+        List<Booking> bookings = new ArrayList<>(rows);
+        List<Notification> notifications = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            bookings.add(booking(first + i));
+            notifications.add(notification(first + i));
+        }
+        return transactionTemplate.execute(status -> {
+            bookingRepository.saveAll(bookings);
+            notificationRepository.saveAll(notifications);
+            return bookings.size() + notifications.size();
+        });
+    }
+
+    private Booking booking(long i) {
+        Booking booking = new Booking();
+        booking.setUserId(1 + (int) (i % 1000));
+        booking.setProviderId(1 + (int) (i % 200));
+        booking.setServiceType(InMemoryApplication.SERVICE_TYPES[(int) (i % InMemoryApplication.SERVICE_TYPES.length)]);
+        booking.setBookingDate(LocalDate.of(2025, 1, 1).plusDays(i % 90));
+        booking.setBookingTime(LocalTime.of(8 + (int) (i % 10), 0));
+        booking.setStatus(Booking.BookingStatus.PENDING);
+        return booking;
+    }
+
+    private Notification notification(long i) {
+        Notification notification = new Notification();
+        notification.setReceiverId(1 + (int) (i % 200));
+        notification.setReceiverType("PROVIDER");
+        notification.setMessage("New booking request #" + i);
+        notification.setType("BOOKING_REQUEST");
+        notification.setStatus("UNREAD");
+        return notification;
+    }
+}
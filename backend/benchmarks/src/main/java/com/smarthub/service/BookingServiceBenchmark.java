@@ -0,0 +1,79 @@
+package com.smarthub.service;
+
+import com.smarthub.benchmark.InMemoryApplication;
+import com.smarthub.dto.BookingRequest;
+import com.smarthub.entity.Booking;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking writes end to end against the in-memory database: the booking insert, the stats rollup
+ * upserts and the notification insert, through the bulkhead and transaction proxies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    private static final int PROVIDERS = 200;
+    private static final int USERS = 1000;
+    private static final int PREPARED_BOOKINGS = 1000;
+    // Cycle that always moves a booking to a different status
+    private static final String[] STATUSES = {"ACCEPTED", "COMPLETED", "PAID", "PENDING"};
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private int[] providerIds;
+    private int[] bookingIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = InMemoryApplication.start("bookings");
+        InMemoryApplication.importProviders(context, PROVIDERS);
+        providerIds = context.getBean(JdbcTemplate.class)
+            .queryForList("select provider_id from service_provider", Integer.class)
+            .stream().mapToInt(Integer::intValue).toArray();
+        bookingService = context.getBean(BookingService.class);
+
+        bookingIds = new int[PREPARED_BOOKINGS];
+        for (int i = 0; i < PREPARED_BOOKINGS; i++) {
+            bookingIds[i] = bookingService.createBooking(request(i)).getBookingId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Booking createBooking() {
+        return bookingService.createBooking(request(next++));
+    }
+
+    @Benchmark
+    public Booking updateBookingStatus() {
+        int i = next++;
+        return bookingService.updateBookingStatus(bookingIds[i % PREPARED_BOOKINGS],
+            STATUSES[(i / PREPARED_BOOKINGS) % STATUSES.length]);
+    }
+
+    private BookingRequest request(int i) {
+        BookingRequest request = new BookingRequest();
+        request.setUserId(1 + i % USERS);
+        request.setProviderId(providerIds[i % providerIds.length]);
+        request.setServiceType(InMemoryApplication.SERVICE_TYPES[i % InMemoryApplication.SERVICE_TYPES.length]);
+        request.setBookingDate(LocalDate.of(2025, 1, 1).plusDays(i % 90));
+        request.setBookingTime(LocalTime.of(8 + i % 10, 0));
+        return request;
+    }
+}
@@ -0,0 +1,59 @@
+package com.smarthub.service;
+
+import com.smarthub.entity.Booking;
+import com.smarthub.entity.Notification;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notification texts built by BookingService on every booking write: date/time formatting and
+ * string concatenation, without the inserts around them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationMessageBenchmark {
+
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        booking = new Booking();
+        booking.setBookingId(1042);
+        booking.setUserId(17);
+        booking.setProviderId(23);
+        booking.setServiceType("Plumbing");
+        booking.setBookingDate(LocalDate.of(2025, 3, 14));
+        booking.setBookingTime(LocalTime.of(10, 30));
+    }
+
+    @Benchmark
+    public String bookingRequest() {
+        return BookingService.bookingRequestMessage(booking);
+    }
+
+    @Benchmark
+    public Notification statusChange(StatusState state) {
+        Notification notification = new Notification();
+        BookingService.describeStatusChange(notification, booking, state.status);
+        return notification;
+    }
+
+    @Benchmark
+    public String cancellation() {
+        return BookingService.cancellationMessage(booking, booking.getUserId());
+    }
+
+    // Separate state so only statusChange runs once per status
+    @State(Scope.Benchmark)
+    public static class StatusState {
+        @Param({"ACCEPTED", "REJECTED", "COMPLETED", "PAID"})
+        Booking.BookingStatus status;
+    }
+}
@@ -0,0 +1,54 @@
+package com.smarthub.service;
+
+import com.smarthub.benchmark.InMemoryApplication;
+import com.smarthub.dto.ProviderView;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provider search as served by /api/provider/search: the case-insensitive substring filters on
+ * service type and location, projected straight to ProviderView rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProviderSearchBenchmark {
+
+    @Param({"1000", "10000"})
+    private int providers;
+
+    // "type|location"; an empty side is no filter
+    @Param({"plumb|", "|pune", "clean|mumbai", "|", "welding|"})
+    private String filter;
+
+    private ConfigurableApplicationContext context;
+    private ServiceProviderService serviceProviderService;
+    private String type;
+    private String location;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = InMemoryApplication.start("search" + providers);
+        InMemoryApplication.importProviders(context, providers);
+        serviceProviderService = context.getBean(ServiceProviderService.class);
+        String[] parts = filter.split("\\|", -1);
+        type = parts[0].isEmpty() ? null : parts[0];
+        location = parts[1].isEmpty() ? null : parts[1];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProviderView> search() {
+        return serviceProviderService.searchProviders(type, location);
+    }
+}
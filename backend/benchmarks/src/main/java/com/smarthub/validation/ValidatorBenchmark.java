@@ -0,0 +1,62 @@
+package com.smarthub.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signup and login input validation. Each validator runs on every auth request before any database
+ * work, so a regression here is paid on the busiest write path. Rejected inputs are measured too:
+ * a failing regex can cost more than a matching one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private final PasswordValidator passwordValidator = new PasswordValidator();
+    private final MobileNumberValidator mobileNumberValidator = new MobileNumberValidator();
+    private final EmailValidator emailValidator = new EmailValidator();
+
+    // Non-final so the JIT cannot constant-fold the inputs
+    private String validPassword = "Secret#2024";
+    // Passes every lookahead but the special character, which is checked against the whole string
+    private String invalidPassword = "Abcdefgh12345678Abcdefgh12345678Abcdefgh12345678";
+    private String validMobile = "9876543210";
+    private String invalidMobile = "98765-43210";
+    private String validEmail = "priya.sharma+home@example.co.in";
+    private String invalidEmail = "priya.sharma.example.co.in";
+
+    @Benchmark
+    public boolean passwordValid() {
+        return passwordValidator.isValid(validPassword);
+    }
+
+    @Benchmark
+    public boolean passwordInvalid() {
+        return passwordValidator.isValid(invalidPassword);
+    }
+
+    @Benchmark
+    public boolean mobileValid() {
+        return mobileNumberValidator.isValid(validMobile);
+    }
+
+    @Benchmark
+    public boolean mobileInvalid() {
+        return mobileNumberValidator.isValid(invalidMobile);
+    }
+
+    @Benchmark
+    public boolean emailValid() {
+        return emailValidator.isValid(validEmail);
+    }
+
+    @Benchmark
+    public boolean emailInvalid() {
+        return emailValidator.isValid(invalidEmail);
+    }
+}
@@ -0,0 +1,104 @@
+package com.smarthub.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Non-blocking calls to the backend endpoints under test. A handful of threads complete the
+ * responses of thousands of concurrent requests; nothing blocks per request.
+ */
+public class ApiClient {
+
+    private final URI baseUrl;
+    private final Duration timeout;
+    private final HttpClient http;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public ApiClient(URI baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), r -> {
+            Thread thread = new Thread(r, "loadtest-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(timeout)
+            .executor(executor)
+            .build();
+    }
+
+    public CompletableFuture<HttpResponse<String>> register(String fullName, String mobile, String password, String role,
+                                                            String serviceType, String location) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("fullName", fullName);
+        body.put("mobile", mobile);
+        body.put("password", password);
+        body.put("role", role);
+        body.put("location", location);
+        if ("SERVICE_PROVIDER".equals(role)) {
+            body.put("serviceType", serviceType);
+            body.put("experience", 3);
+            body.put("price", "499");
+            body.put("availability", "Mon-Sat 9AM-6PM");
+        }
+        return http.sendAsync(post("/api/auth/register", body, null), HttpResponse.BodyHandlers.ofString());
+    }
+
+    public CompletableFuture<HttpResponse<Void>> createBooking(int userId, String token, int providerId, String serviceType,
+                                                               LocalDate date, LocalTime time) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userId", userId);
+        body.put("providerId", providerId);
+        body.put("serviceType", serviceType);
+        body.put("bookingDate", date.toString());
+        body.put("bookingTime", time.toString());
+        return http.sendAsync(post("/api/bookings", body, token), HttpResponse.BodyHandlers.discarding());
+    }
+
+    // Conditional poll: a 304 costs the server one version query and no rows
+    public CompletableFuture<HttpResponse<Void>> notifications(int receiverId, String token, String etag) {
+        HttpRequest.Builder request = request("/api/notifications/" + receiverId, token).GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return http.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    private HttpRequest post(String path, Map<String, Object> body, String token) {
+        try {
+            return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(timeout);
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return request;
+    }
+}
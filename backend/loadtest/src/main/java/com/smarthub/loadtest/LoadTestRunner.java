@@ -0,0 +1,135 @@
+package com.smarthub.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entry point of loadtest.jar: runs one scenario against a running backend and prints latency
+ * percentiles, throughput and outcome counts per phase.
+ *
+ *   java -jar target/loadtest.jar <scenario> [options]
+ *
+ * The scenario is a JSON file or the name of a built-in one (signup-storm, booking-burst,
+ * notification-polling). Options:
+ *   -base-url=http://localhost:8080   backend to test
+ *   -rate-scale=1.0                    multiplies every phase rate
+ *   -seed=1                            request sequence; the same seed sends the same requests
+ *   -run-id=N                          0-999, keeps signup mobiles of separate runs apart (default: clock)
+ *   -user-ids=1-5000                   use existing accounts instead of registering setup users
+ *   -provider-ids=5001-5500            same for providers
+ *   -hgrm-dir=target/hgrm              write each phase's full latency distribution (HdrHistogram .hgrm)
+ *
+ * Exits with status 1 when the scenario sets maxErrorRate and the run exceeds it.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        String scenarioName = null;
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("-") && arg.contains("=")) {
+                int split = arg.indexOf('=');
+                options.put(arg.substring(arg.startsWith("--") ? 2 : 1, split), arg.substring(split + 1));
+            } else if (!arg.startsWith("-")) {
+                scenarioName = arg;
+            }
+        }
+        if (scenarioName == null) {
+            System.out.println("Usage: java -jar loadtest.jar <scenario.json | signup-storm | booking-burst | notification-polling>"
+                + " [-base-url=...] [-rate-scale=...] [-seed=...] [-run-id=...] [-user-ids=a-b] [-provider-ids=a-b] [-hgrm-dir=...]");
+            System.exit(2);
+        }
+
+        Scenario scenario = load(scenarioName);
+        if (options.containsKey("user-ids")) {
+            scenario.getSetup().setUserIds(options.get("user-ids"));
+        }
+        if (options.containsKey("provider-ids")) {
+            scenario.getSetup().setProviderIds(options.get("provider-ids"));
+        }
+        URI baseUrl = URI.create(options.getOrDefault("base-url", "http://localhost:8080"));
+        double rateScale = Double.parseDouble(options.getOrDefault("rate-scale", "1"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        int runId = options.containsKey("run-id")
+            ? Integer.parseInt(options.get("run-id"))
+            : (int) (System.currentTimeMillis() / 1000 % 1000);
+
+        System.out.println("Scenario " + scenario.getName() + " against " + baseUrl + " (seed " + seed + ", run id " + runId + ")");
+        if (scenario.getDescription() != null) {
+            System.out.println(scenario.getDescription());
+        }
+
+        ApiClient client = new ApiClient(baseUrl, Duration.ofMillis(scenario.getTimeoutMs()));
+        Workload workload;
+        try {
+            workload = Workloads.create(scenario, client, new Workloads.Mobiles(runId));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            System.err.println("⚠️ " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        List<PhaseStats> phases = new OpenModelDriver(scenario, rateScale, seed).run(workload);
+        PhaseStats total = PhaseStats.merge("total", phases);
+
+        System.out.println();
+        System.out.println(PhaseStats.header());
+        phases.forEach(phase -> System.out.println(phase.row()));
+        System.out.println(total.row());
+        System.out.println();
+        System.out.println("Outcomes (HTTP status or client error):");
+        phases.forEach(phase -> System.out.println("  " + phase.outcomes()));
+        System.out.printf("Error rate %.3f%%%n", total.errorRate() * 100);
+
+        if (options.containsKey("hgrm-dir")) {
+            List<PhaseStats> all = new ArrayList<>(phases);
+            all.add(total);
+            writeDistributions(new File(options.get("hgrm-dir")), scenario.getName(), all);
+        }
+
+        boolean failed = scenario.getMaxErrorRate() != null && total.errorRate() > scenario.getMaxErrorRate();
+        if (failed) {
+            System.out.printf("⚠️ Error rate above the scenario limit of %.3f%%%n", scenario.getMaxErrorRate() * 100);
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static Scenario load(String name) throws IOException {
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        File file = new File(name);
+        if (file.isFile()) {
+            return mapper.readValue(file, Scenario.class);
+        }
+        String resource = "/scenarios/" + (name.endsWith(".json") ? name : name + ".json");
+        try (InputStream in = LoadTestRunner.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No scenario file or built-in scenario named " + name);
+            }
+            return mapper.readValue(in, Scenario.class);
+        }
+    }
+
+    // Percentile distributions in milliseconds, for HdrHistogram's plotter or a diff between runs
+    private static void writeDistributions(File directory, String scenario, List<PhaseStats> phases) throws IOException {
+        directory.mkdirs();
+        for (PhaseStats phase : phases) {
+            File file = new File(directory, scenario + "-" + phase.getName() + ".hgrm");
+            try (PrintStream out = new PrintStream(new FileOutputStream(file))) {
+                phase.getResponseTime().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.println("Latency distributions written to " + directory.getPath());
+    }
+}
@@ -0,0 +1,112 @@
+package com.smarthub.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plays the phases of a scenario as an open model: one dispatcher thread computes each arrival
+ * time from the phase rate, waits for it and fires the request without waiting for earlier ones.
+ * Request parameters come from a seeded random, so a seed always sends the same request sequence.
+ */
+public class OpenModelDriver {
+
+    private final Scenario scenario;
+    private final double rateScale;
+    private final long seed;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OpenModelDriver(Scenario scenario, double rateScale, long seed) {
+        this.scenario = scenario;
+        this.rateScale = rateScale;
+        this.seed = seed;
+    }
+
+    public List<PhaseStats> run(Workload workload) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<PhaseStats> results = new ArrayList<>();
+        long sequence = 0;
+        long phaseStart = System.nanoTime();
+
+        for (Scenario.Phase phase : scenario.getPhases()) {
+            PhaseStats stats = new PhaseStats(phase.getName(), phase.getDurationSeconds());
+            results.add(stats);
+            long phaseEnd = phaseStart + (long) (phase.getDurationSeconds() * 1e9);
+            System.out.println("Phase " + phase.getName() + ": " + phase.getDurationSeconds() + " s at "
+                + phase.getRatePerSecond() * rateScale + (phase.getRampToPerSecond() != null
+                ? " -> " + phase.getRampToPerSecond() * rateScale : "") + " req/s");
+
+            long next = phaseStart;
+            while (true) {
+                double rate = phase.rateAt((next - phaseStart) / 1e9) * rateScale;
+                if (rate <= 0) {
+                    next += TimeUnit.MILLISECONDS.toNanos(10);
+                } else {
+                    double gapSeconds = scenario.getArrivals() == Scenario.Arrivals.POISSON
+                        ? -Math.log(1 - random.nextDouble()) / rate
+                        : 1 / rate;
+                    next += (long) (gapSeconds * 1e9);
+                }
+                if (next >= phaseEnd) {
+                    break;
+                }
+                if (rate > 0) {
+                    waitUntil(next);
+                    fire(workload, sequence++, random, next, stats);
+                }
+            }
+            waitUntil(phaseEnd);
+            phaseStart = phaseEnd;
+        }
+
+        // Let the last requests answer or time out before reporting
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scenario.getTimeoutMs() + 5000);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        if (inFlight.get() > 0) {
+            System.out.println("⚠️ " + inFlight.get() + " requests still unanswered at the end of the run");
+        }
+        return results;
+    }
+
+    private void fire(Workload workload, long sequence, SplittableRandom random, long intended, PhaseStats stats) {
+        if (inFlight.get() >= scenario.getMaxInFlight()) {
+            stats.dropped();
+            return;
+        }
+        inFlight.incrementAndGet();
+        stats.sent();
+        long sent = System.nanoTime();
+        CompletableFuture<? extends HttpResponse<?>> response;
+        try {
+            response = workload.next(sequence, random);
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            stats.record(0, e, 0, 0);
+            return;
+        }
+        response.whenComplete((result, error) -> {
+            long now = System.nanoTime();
+            stats.record(result != null ? result.statusCode() : 0, error, now - intended, now - sent);
+            inFlight.decrementAndGet();
+        });
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            // Park for the bulk of the wait, spin the last stretch for sub-millisecond accuracy
+            if (remaining > 2_000_000) {
+                LockSupport.parkNanos(remaining - 1_000_000);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.smarthub.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcomes and latencies of the requests sent during one phase, recorded from the HTTP client
+ * threads as responses arrive. Latencies are in microseconds.
+ *
+ * Response time runs from the intended arrival to the answer and includes any time the request
+ * spent waiting behind a saturated client or server; service time runs from the actual send. A wide
+ * gap between the two means the server was not keeping up with the arrival rate.
+ */
+public class PhaseStats {
+
+    private final String name;
+    private final double durationSeconds;
+    private final Histogram responseTime = new ConcurrentHistogram(3);
+    private final Histogram serviceTime = new ConcurrentHistogram(3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    public PhaseStats(String name, double durationSeconds) {
+        this.name = name;
+        this.durationSeconds = durationSeconds;
+    }
+
+    void sent() {
+        sent.increment();
+    }
+
+    // The client already had maxInFlight requests outstanding
+    void dropped() {
+        dropped.increment();
+        outcome("dropped");
+    }
+
+    void record(int status, Throwable error, long responseNanos, long serviceNanos) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            errors.increment();
+            outcome(cause instanceof HttpTimeoutException ? "timeout"
+                : cause instanceof ConnectException ? "connect" : "io:" + cause.getClass().getSimpleName());
+            return;
+        }
+        responseTime.recordValue(Math.max(1, responseNanos / 1000));
+        serviceTime.recordValue(Math.max(1, serviceNanos / 1000));
+        outcome(String.valueOf(status));
+        if (status < 400) {
+            ok.increment();
+        } else if (status == 429 || status == 503) {
+            rejected.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    private void outcome(String key) {
+        outcomes.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    static PhaseStats merge(String name, Iterable<PhaseStats> phases) {
+        double duration = 0;
+        for (PhaseStats phase : phases) {
+            duration += phase.durationSeconds;
+        }
+        PhaseStats total = new PhaseStats(name, duration);
+        for (PhaseStats phase : phases) {
+            total.responseTime.add(phase.responseTime);
+            total.serviceTime.add(phase.serviceTime);
+            total.sent.add(phase.sent.sum());
+            total.ok.add(phase.ok.sum());
+            total.rejected.add(phase.rejected.sum());
+            total.errors.add(phase.errors.sum());
+            total.dropped.add(phase.dropped.sum());
+            phase.outcomes.forEach((key, count) -> total.outcomes.computeIfAbsent(key, k -> new LongAdder()).add(count.sum()));
+        }
+        return total;
+    }
+
+    // Errors over everything that got an answer or failed; rejected (429/503) counts as answered
+    public double errorRate() {
+        long answered = ok.sum() + rejected.sum() + errors.sum();
+        return answered == 0 ? 0 : (double) errors.sum() / answered;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Histogram getResponseTime() {
+        return responseTime;
+    }
+
+    static String header() {
+        return String.format("%-14s %9s %9s %9s %8s %8s %9s %9s %9s %9s %9s %9s %11s",
+            "phase", "sent", "ok", "rejected", "errors", "dropped", "ok/s",
+            "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99 ms");
+    }
+
+    String row() {
+        return String.format("%-14s %9d %9d %9d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %11.2f",
+            name, sent.sum(), ok.sum(), rejected.sum(), errors.sum(), dropped.sum(),
+            durationSeconds > 0 ? ok.sum() / durationSeconds : 0,
+            millis(responseTime, 50), millis(responseTime, 90), millis(responseTime, 99), millis(responseTime, 99.9),
+            responseTime.getTotalCount() == 0 ? 0 : responseTime.getMaxValue() / 1000.0,
+            millis(serviceTime, 99));
+    }
+
+    String outcomes() {
+        Map<String, Long> sorted = new TreeMap<>();
+        outcomes.forEach((key, count) -> sorted.put(key, count.sum()));
+        return name + ": " + sorted;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getTotalCount() == 0 ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.smarthub.loadtest;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A load-test script, read from JSON (see src/main/resources/scenarios).
+ *
+ * Open model: requests arrive at the phase rate whether or not earlier ones have been answered, the
+ * way independent clients hit a real server. Latency is measured from the intended arrival time, so
+ * a stalled server shows up in the percentiles instead of slowing the load down.
+ */
+@Data
+public class Scenario {
+
+    private String name;
+    private String description;
+    private Action action;
+    private Arrivals arrivals = Arrivals.POISSON;
+    private List<Phase> phases = new ArrayList<>();
+    private Setup setup = new Setup();
+
+    // POLL_NOTIFICATIONS: distinct polling clients; each one polls at (phase rate / clients) per second
+    // and sends the ETag of its previous answer
+    private int clients = 1000;
+
+    // REGISTER: share of signups that are service providers
+    private double providerShare = 0.2;
+
+    // Arrivals beyond this many unanswered requests are counted as dropped instead of sent
+    private int maxInFlight = 5000;
+    private long timeoutMs = 10_000;
+
+    // The run exits with status 1 above this share of errors; 429/503 are reported as rejected, not errors
+    private Double maxErrorRate;
+
+    public enum Action {
+        REGISTER,
+        CREATE_BOOKING,
+        POLL_NOTIFICATIONS
+    }
+
+    public enum Arrivals {
+        // Exponential gaps, like independent clients
+        POISSON,
+        // Evenly spaced
+        CONSTANT
+    }
+
+    @Data
+    public static class Phase {
+        private String name;
+        private double durationSeconds;
+        private double ratePerSecond;
+        // Linear ramp from ratePerSecond to this rate over the phase
+        private Double rampToPerSecond;
+
+        double rateAt(double elapsedSeconds) {
+            if (rampToPerSecond == null || durationSeconds <= 0) {
+                return ratePerSecond;
+            }
+            return ratePerSecond + (rampToPerSecond - ratePerSecond) * Math.min(1, elapsedSeconds / durationSeconds);
+        }
+    }
+
+    // Accounts the requests act on: registered through the API before the first phase, or taken
+    // from existing id ranges such as "1-100000" (e.g. a database filled by the datagen profile)
+    @Data
+    public static class Setup {
+        private int users;
+        private int providers;
+        private String userIds;
+        private String providerIds;
+        // Parallel setup registrations; the backend's auth bulkhead admits 4 at a time
+        private int concurrency = 4;
+    }
+}
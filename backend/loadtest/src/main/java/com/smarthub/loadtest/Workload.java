@@ -0,0 +1,14 @@
+package com.smarthub.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builds and sends the request for one arrival. Called from the single dispatcher thread, so
+ * implementations may keep unsynchronized state of their own; response callbacks may not.
+ */
+public interface Workload {
+
+    CompletableFuture<? extends HttpResponse<?>> next(long sequence, SplittableRandom random);
+}
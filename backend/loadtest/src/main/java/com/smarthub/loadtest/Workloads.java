@@ -0,0 +1,227 @@
+package com.smarthub.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The scripted actions: signup storms, booking bursts and notification polling, plus the account
+ * setup they need before the first phase.
+ */
+public final class Workloads {
+
+    static final String PASSWORD = "LoadTest#1";
+    private static final int SETUP_ATTEMPTS = 10;
+    private static final String[] SERVICE_TYPES = {"Electrician", "Plumber", "Cleaner", "Carpenter", "Mechanic", "Tutor"};
+    private static final String[] CITIES = {"Mumbai", "Delhi", "Bengaluru", "Pune", "Chennai", "Hyderabad"};
+
+    // token is null for accounts taken from an id range
+    record Account(int id, String token, String serviceType) {
+    }
+
+    private Workloads() {
+    }
+
+    static Workload create(Scenario scenario, ApiClient client, Mobiles mobiles) throws InterruptedException {
+        Scenario.Setup setup = scenario.getSetup();
+        switch (scenario.getAction()) {
+            case REGISTER:
+                return new Signups(client, mobiles, scenario.getProviderShare());
+            case CREATE_BOOKING: {
+                List<Account> users = accounts(client, mobiles, "USER", setup.getUsers(), setup.getUserIds(), setup.getConcurrency());
+                List<Account> providers = accounts(client, mobiles, "SERVICE_PROVIDER", setup.getProviders(),
+                    setup.getProviderIds(), setup.getConcurrency());
+                if (users.isEmpty() || providers.isEmpty()) {
+                    throw new IllegalArgumentException("CREATE_BOOKING needs setup users and providers (counts or id ranges)");
+                }
+                return new Bookings(client, users, providers);
+            }
+            case POLL_NOTIFICATIONS: {
+                List<Account> receivers = new ArrayList<>(
+                    accounts(client, mobiles, "USER", setup.getUsers(), setup.getUserIds(), setup.getConcurrency()));
+                receivers.addAll(accounts(client, mobiles, "SERVICE_PROVIDER", setup.getProviders(), setup.getProviderIds(),
+                    setup.getConcurrency()));
+                if (receivers.isEmpty()) {
+                    throw new IllegalArgumentException("POLL_NOTIFICATIONS needs setup users or providers (counts or id ranges)");
+                }
+                return new NotificationPolls(client, receivers, Math.max(1, scenario.getClients()));
+            }
+            default:
+                throw new IllegalArgumentException("Scenario action is required");
+        }
+    }
+
+    // Ids from a range like "1-5000", or fresh accounts registered through the API
+    private static List<Account> accounts(ApiClient client, Mobiles mobiles, String role, int count, String idRange,
+                                          int concurrency) throws InterruptedException {
+        List<Account> accounts = new ArrayList<>();
+        if (idRange != null && !idRange.isBlank()) {
+            String[] bounds = idRange.trim().split("-");
+            int from = Integer.parseInt(bounds[0].trim());
+            int to = bounds.length > 1 ? Integer.parseInt(bounds[1].trim()) : from;
+            for (int id = from; id <= to; id++) {
+                accounts.add(new Account(id, null, null));
+            }
+            return accounts;
+        }
+        if (count <= 0) {
+            return accounts;
+        }
+
+        long started = System.currentTimeMillis();
+        List<Account> registered = Collections.synchronizedList(new ArrayList<>());
+        Map<String, String> failures = Collections.synchronizedMap(new TreeMap<>());
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        for (int i = 0; i < count; i++) {
+            permits.acquire();
+            String serviceType = SERVICE_TYPES[i % SERVICE_TYPES.length];
+            registerWithRetry(client, "Load Test " + role + " " + i, mobiles.next(), role, serviceType, CITIES[i % CITIES.length],
+                    SETUP_ATTEMPTS)
+                .whenComplete((response, error) -> {
+                    try {
+                        if (error != null) {
+                            failures.putIfAbsent(error.getClass().getSimpleName(), String.valueOf(error.getMessage()));
+                        } else if (response.statusCode() != 200) {
+                            failures.putIfAbsent("HTTP " + response.statusCode(), response.body());
+                        } else {
+                            JsonNode body = client.getMapper().readTree(response.body());
+                            registered.add(new Account(body.get("id").asInt(), body.path("token").asText(null), serviceType));
+                        }
+                    } catch (Exception e) {
+                        failures.putIfAbsent(e.getClass().getSimpleName(), e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+        }
+        permits.acquire(Math.max(1, concurrency));
+
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Setup could not register " + (count - registered.size()) + " of " + count + " "
+                + role + " accounts: " + failures + ". Registration is rate limited per IP and shed under load; start the backend with "
+                + "--ratelimit.enabled=false for load tests, or use setup id ranges.");
+        }
+        System.out.println("Setup: registered " + count + " " + role + " accounts in "
+            + (System.currentTimeMillis() - started) + " ms");
+        return registered;
+    }
+
+    // Setup is not measured, so shed (429/503) registrations are retried after Retry-After
+    private static CompletableFuture<HttpResponse<String>> registerWithRetry(ApiClient client, String fullName, String mobile,
+                                                                            String role, String serviceType, String location,
+                                                                            int attempts) {
+        return client.register(fullName, mobile, PASSWORD, role, serviceType, location).thenCompose(response -> {
+            boolean shed = response.statusCode() == 429 || response.statusCode() == 503;
+            if (!shed || attempts <= 1) {
+                return CompletableFuture.completedFuture(response);
+            }
+            long delaySeconds = response.headers().firstValueAsLong("Retry-After").orElse(1);
+            Executor delayed = CompletableFuture.delayedExecutor(Math.min(delaySeconds, 10), TimeUnit.SECONDS);
+            return CompletableFuture.supplyAsync(() -> null, delayed)
+                .thenCompose(ignored -> registerWithRetry(client, fullName, mobile, role, serviceType, location, attempts - 1));
+        });
+    }
+
+    // 10-digit mobiles starting with 7, unique within a run id (0-999) for up to a million signups
+    static final class Mobiles {
+        private final long base;
+        private final AtomicLong next = new AtomicLong();
+
+        Mobiles(int runId) {
+            this.base = 7_000_000_000L + (Math.floorMod(runId, 1000)) * 1_000_000L;
+        }
+
+        String next() {
+            long offset = next.getAndIncrement();
+            if (offset >= 1_000_000) {
+                throw new IllegalStateException("More than a million signups in one run; use another -run-id");
+            }
+            return Long.toString(base + offset);
+        }
+    }
+
+    // POST /api/auth/register with new mobiles; a share of them sign up as providers
+    private static final class Signups implements Workload {
+        private final ApiClient client;
+        private final Mobiles mobiles;
+        private final double providerShare;
+
+        Signups(ApiClient client, Mobiles mobiles, double providerShare) {
+            this.client = client;
+            this.mobiles = mobiles;
+            this.providerShare = providerShare;
+        }
+
+        @Override
+        public CompletableFuture<? extends HttpResponse<?>> next(long sequence, SplittableRandom random) {
+            boolean provider = random.nextDouble() < providerShare;
+            return client.register("Load Test " + sequence, mobiles.next(), PASSWORD, provider ? "SERVICE_PROVIDER" : "USER",
+                SERVICE_TYPES[random.nextInt(SERVICE_TYPES.length)], CITIES[random.nextInt(CITIES.length)]);
+        }
+    }
+
+    // POST /api/bookings from a random user to a random provider, 1-30 days ahead
+    private static final class Bookings implements Workload {
+        private final ApiClient client;
+        private final List<Account> users;
+        private final List<Account> providers;
+        private final LocalDate today = LocalDate.now();
+
+        Bookings(ApiClient client, List<Account> users, List<Account> providers) {
+            this.client = client;
+            this.users = users;
+            this.providers = providers;
+        }
+
+        @Override
+        public CompletableFuture<? extends HttpResponse<?>> next(long sequence, SplittableRandom random) {
+            Account user = users.get(random.nextInt(users.size()));
+            Account provider = providers.get(random.nextInt(providers.size()));
+            String serviceType = provider.serviceType() != null
+                ? provider.serviceType()
+                : SERVICE_TYPES[random.nextInt(SERVICE_TYPES.length)];
+            return client.createBooking(user.id(), user.token(), provider.id(), serviceType,
+                today.plusDays(1 + random.nextInt(30)), LocalTime.of(9 + random.nextInt(10), 0));
+        }
+    }
+
+    // GET /api/notifications/{id}: the clients take turns, each sending the ETag of its last answer
+    private static final class NotificationPolls implements Workload {
+        private final ApiClient client;
+        private final List<Account> receivers;
+        private final int clients;
+        private final AtomicReferenceArray<String> etags;
+
+        NotificationPolls(ApiClient client, List<Account> receivers, int clients) {
+            this.client = client;
+            this.receivers = receivers;
+            this.clients = clients;
+            this.etags = new AtomicReferenceArray<>(clients);
+        }
+
+        @Override
+        public CompletableFuture<? extends HttpResponse<?>> next(long sequence, SplittableRandom random) {
+            int clientIndex = (int) (sequence % clients);
+            Account receiver = receivers.get(clientIndex % receivers.size());
+            return client.notifications(receiver.id(), receiver.token(), etags.get(clientIndex))
+                .thenApply(response -> {
+                    response.headers().firstValue("ETag").ifPresent(etag -> etags.set(clientIndex, etag));
+                    return response;
+                });
+        }
+    }
+}
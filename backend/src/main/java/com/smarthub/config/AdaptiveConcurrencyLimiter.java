@@ -0,0 +1,95 @@
+package com.smarthub.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AIMD concurrency limit driven by request latency.
+ *
+ * Request time on the API is dominated by database time, so it tracks pool saturation and slow
+ * queries. Two moving averages of latency are kept: a fast one (recent requests) and a slow one
+ * (the normal level for the current endpoint mix). While the fast average stays within
+ * tolerance x the slow one, the limit grows by one per limit's worth of completions (roughly +1 per
+ * round trip). When it rises above that, the limit is cut by 10%, at most once per 100 ms.
+ * Requests beyond the limit are rejected instead of queueing for a connection.
+ */
+public class AdaptiveConcurrencyLimiter {
+    
+    private static final double SHORT_WEIGHT = 0.1;
+    private static final double LONG_WEIGHT = 0.005;
+    private static final long DECREASE_COOLDOWN_NANOS = 100_000_000L;
+    
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile double limit;
+    private volatile double shortLatency;
+    private volatile double longLatency;
+    private volatile long lastDecrease;
+    
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+    }
+    
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (longLatency == 0) {
+                shortLatency = latencyNanos;
+                longLatency = latencyNanos;
+                return;
+            }
+            shortLatency += (latencyNanos - shortLatency) * SHORT_WEIGHT;
+            longLatency += (latencyNanos - longLatency) * LONG_WEIGHT;
+            
+            if (shortLatency > longLatency * tolerance) {
+                if (now - lastDecrease > DECREASE_COOLDOWN_NANOS) {
+                    limit = Math.max(minLimit, limit * 0.9);
+                    lastDecrease = now;
+                }
+            } else {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+    
+    public int getLimit() {
+        return (int) limit;
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    
+    public long getRejected() {
+        return rejected.get();
+    }
+    
+    public long getRecentLatencyMicros() {
+        return (long) (shortLatency / 1000);
+    }
+    
+    public long getBaselineLatencyMicros() {
+        return (long) (longLatency / 1000);
+    }
+}
@@ -0,0 +1,32 @@
+package com.smarthub.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * CBOR and Smile next to JSON for every controller, chosen by the Accept header for responses and
+ * by Content-Type for request bodies. JSON stays first in the converter list, so clients that send
+ * no Accept header or {@code *}{@code /*} keep getting JSON.
+ *
+ * Spring MVC registers these converters on its own when the dataformats are on the classpath, but
+ * with a plain mapper. These beans replace them with mappers from Boot's builder, so dates, the
+ * fields filter and every other Jackson setting match the JSON output.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+    
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+    
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,25 @@
+package com.smarthub.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated service method (or every public method of the annotated class) inside the
+ * named bulkhead from {@code bulkhead.pools.<name>}. A method-level annotation overrides the class.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+    
+    // Writes: bookings, notifications, reviews, complaints and profile updates
+    String BOOKING = "booking";
+    // Per-user reads and their ETag versions: booking and notification lists, sync, dashboards
+    String READ = "read";
+    String AUTH = "auth";
+    String SEARCH = "search";
+    String ADMIN = "admin";
+    
+    String value();
+}
@@ -0,0 +1,170 @@
+package com.smarthub.config;
+
+import com.smarthub.exception.ServiceBusyException;
+import jakarta.annotation.PostConstruct;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Semaphore bulkheads per workload class, so one class of traffic cannot hold every JDBC
+ * connection. Every pool is budgeted for the most connections its calls can hold at once
+ * (maxConcurrent * connectionsPerCall), and the budgets plus the connections used outside any
+ * pool fit in the Hikari pool. A burst of list polling, admin exports or slow searches can then
+ * only queue behind its own permits while booking writes and logins keep their connections.
+ *
+ * Ordered after request coalescing but ahead of the transaction interceptor, so a permit is
+ * taken before a connection is borrowed and released after it is returned. Nested calls on a
+ * thread that already holds a permit run inside the outer one instead of taking a second permit,
+ * which could deadlock. Work handed to another thread (the dashboard queries, batch
+ * sub-requests) takes its own permit there, so a caller must not hold a permit while it waits
+ * for that work.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class BulkheadAspect {
+    
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    
+    @Autowired
+    private BulkheadProperties properties;
+    
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+    
+    private final Map<String, Compartment> compartments = new LinkedHashMap<>();
+    
+    @PostConstruct
+    void init() {
+        properties.getPools().forEach((name, pool) -> compartments.put(name, new Compartment(pool)));
+        
+        int budget = properties.getReservedConnections();
+        for (BulkheadProperties.Pool pool : properties.getPools().values()) {
+            budget += pool.getMaxConcurrent() * pool.getConnectionsPerCall();
+        }
+        if (properties.isEnabled() && budget > connectionPoolSize) {
+            System.err.println("⚠️ Bulkheads can hold up to " + budget + " connections but the JDBC pool has "
+                + connectionPoolSize + "; one class of traffic can starve the others");
+        }
+    }
+    
+    @Around("@annotation(com.smarthub.config.Bulkhead) || @within(com.smarthub.config.Bulkhead)")
+    public Object isolate(ProceedingJoinPoint joinPoint) throws Throwable {
+        return isolate(bulkheadOf(joinPoint), joinPoint::proceed);
+    }
+    
+    /**
+     * Runs only part of a method inside the named bulkhead, for callers whose connection-holding
+     * step is a small piece of a longer call (the sign-in lookups and inserts around BCrypt), or
+     * that run on an executor thread (the dashboard queries).
+     */
+    public <T> T call(String name, Supplier<T> work) {
+        try {
+            return isolate(name, work::get);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private <T> T isolate(String name, Work<T> work) throws Throwable {
+        if (!properties.isEnabled() || CURRENT.get() != null) {
+            return work.run();
+        }
+        Compartment compartment = name != null ? compartments.get(name) : null;
+        if (compartment == null) {
+            return work.run();
+        }
+        
+        long started = System.nanoTime();
+        boolean acquired = compartment.semaphore.tryAcquire(compartment.maxWaitMs, TimeUnit.MILLISECONDS);
+        long waited = System.nanoTime() - started;
+        compartment.waitNanos.addAndGet(waited);
+        compartment.maxWaitNanos.accumulateAndGet(waited, Math::max);
+        if (!acquired) {
+            compartment.rejected.incrementAndGet();
+            throw new ServiceBusyException("Server is busy. Please retry shortly.");
+        }
+        compartment.acquired.incrementAndGet();
+        compartment.peak.accumulateAndGet(compartment.maxConcurrent - compartment.semaphore.availablePermits(), Math::max);
+        
+        CURRENT.set(name);
+        try {
+            return work.run();
+        } finally {
+            CURRENT.remove();
+            compartment.semaphore.release();
+        }
+    }
+    
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        compartments.forEach((name, compartment) -> {
+            long acquired = compartment.acquired.get();
+            long rejected = compartment.rejected.get();
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("maxConcurrent", compartment.maxConcurrent);
+            pool.put("maxWaitMs", compartment.maxWaitMs);
+            pool.put("connectionsPerCall", compartment.connectionsPerCall);
+            pool.put("active", compartment.maxConcurrent - compartment.semaphore.availablePermits());
+            pool.put("waiting", compartment.semaphore.getQueueLength());
+            pool.put("peakActive", compartment.peak.get());
+            pool.put("acquired", acquired);
+            pool.put("rejected", rejected);
+            pool.put("avgWaitMicros", acquired + rejected > 0
+                ? TimeUnit.NANOSECONDS.toMicros(compartment.waitNanos.get()) / (acquired + rejected) : 0);
+            pool.put("maxWaitMicros", TimeUnit.NANOSECONDS.toMicros(compartment.maxWaitNanos.get()));
+            stats.put(name, pool);
+        });
+        return stats;
+    }
+    
+    private String bulkheadOf(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), Bulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Bulkhead.class);
+        }
+        return bulkhead != null ? bulkhead.value() : null;
+    }
+    
+    private interface Work<T> {
+        T run() throws Throwable;
+    }
+    
+    private static class Compartment {
+        final int maxConcurrent;
+        final long maxWaitMs;
+        final int connectionsPerCall;
+        // Fair, so waiting callers are served in arrival order within their own class
+        final Semaphore semaphore;
+        final AtomicLong acquired = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong waitNanos = new AtomicLong();
+        final AtomicLong maxWaitNanos = new AtomicLong();
+        final AtomicLong peak = new AtomicLong();
+        
+        Compartment(BulkheadProperties.Pool pool) {
+            this.maxConcurrent = pool.getMaxConcurrent();
+            this.maxWaitMs = pool.getMaxWaitMs();
+            this.connectionsPerCall = pool.getConnectionsPerCall();
+            this.semaphore = new Semaphore(maxConcurrent, true);
+        }
+    }
+}
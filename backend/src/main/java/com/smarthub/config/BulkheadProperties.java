@@ -0,0 +1,36 @@
+package com.smarthub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadProperties {
+    
+    private boolean enabled = true;
+    
+    // Keyed by bulkhead name (booking, read, auth, search, admin)
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+    
+    // Connections held outside any bulkhead: the startup listeners (signup filter build, query plan check)
+    private int reservedConnections = 1;
+    
+    @Data
+    public static class Pool {
+        // Concurrent calls allowed
+        private int maxConcurrent = 4;
+        
+        // Connections one call can hold at once; writes that draw an id block from id_sequences
+        // briefly hold a second one. maxConcurrent * connectionsPerCall across all pools, plus
+        // reservedConnections, must fit in the JDBC pool.
+        private int connectionsPerCall = 1;
+        
+        // How long a call may wait for a permit before it is rejected with 503
+        private long maxWaitMs = 500;
+    }
+}
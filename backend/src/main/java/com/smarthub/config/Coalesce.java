@@ -0,0 +1,19 @@
+package com.smarthub.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Concurrent calls of the annotated read method with equal arguments share one execution and its
+ * result (or exception). Callers that join an execution wait at most timeoutMs, or
+ * {@code coalesce.timeout-ms} when not set, then get a 503. Only for methods without side effects
+ * whose result callers do not modify.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {
+    
+    long timeoutMs() default 0;
+}
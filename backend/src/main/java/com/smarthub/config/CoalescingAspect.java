@@ -0,0 +1,108 @@
+package com.smarthub.config;
+
+import com.smarthub.exception.ServiceBusyException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-flight execution of {@link Coalesce} methods: the first caller for a method and argument
+ * list runs it on its own thread, every caller arriving while it runs waits for the same result.
+ * The entry is removed as soon as the call completes, so nothing is cached and a later call always
+ * sees fresh data. Database load follows the number of distinct keys in flight, not the number of
+ * requests.
+ *
+ * Ordered ahead of the bulkheads so waiting callers do not hold bulkhead permits. Calls made inside
+ * a write transaction run on their own, since they must see that transaction's uncommitted changes.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class CoalescingAspect {
+    
+    private record Key(Method method, List<Object> args) {
+    }
+    
+    @Value("${coalesce.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${coalesce.timeout-ms:2000}")
+    private long defaultTimeoutMs;
+    
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    
+    @Around("@annotation(com.smarthub.config.Coalesce)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled || (TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return joinPoint.proceed();
+        }
+        
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Key key = new Key(method, Arrays.asList(joinPoint.getArgs()));
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            long timeoutMs = method.getAnnotation(Coalesce.class).timeoutMs();
+            return await(existing, timeoutMs > 0 ? timeoutMs : defaultTimeoutMs);
+        }
+        
+        executions.incrementAndGet();
+        try {
+            Object result = joinPoint.proceed();
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+    
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inFlight", inFlight.size());
+        stats.put("executions", executions.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("timeouts", timeouts.get());
+        return stats;
+    }
+    
+    private Object await(CompletableFuture<Object> future, long timeoutMs) throws Throwable {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            timeouts.incrementAndGet();
+            throw new ServiceBusyException("Server is busy. Please retry shortly.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Request interrupted");
+        }
+    }
+}
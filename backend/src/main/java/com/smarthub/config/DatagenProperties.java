@@ -0,0 +1,61 @@
+package com.smarthub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Settings of the synthetic dataset generator (profile "datagen"). The same seed, counts, chunk size
+ * and anchor date on an empty database produce exactly the same rows.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "datagen")
+public class DatagenProperties {
+
+    private long seed = 42;
+
+    private int users = 100_000;
+    private int providers = 10_000;
+    private long bookings = 1_000_000;
+
+    // Share of COMPLETED/PAID bookings that get a review
+    private double reviewRate = 0.35;
+
+    // Booking request and status notifications, as the booking flow would have sent them
+    private boolean notifications = true;
+
+    // Zipf exponents: how strongly bookings pile onto the busiest providers, cities and customers
+    private double providerSkew = 1.1;
+    private double citySkew = 1.0;
+    private double userSkew = 0.8;
+
+    // Booking dates span historyDays before the anchor date to futureDays after it.
+    // Leave the anchor empty for today; pin it to reproduce a dataset later.
+    private int historyDays = 730;
+    private int futureDays = 60;
+    private LocalDate anchorDate;
+
+    // Every generated account logs in with this password
+    private String password = "Datagen#2024";
+
+    // Writer threads (one JDBC connection each) and bookings per transaction
+    private int threads = 4;
+    private int chunkSize = 5000;
+
+    // Drop the secondary indexes of booking, notifications and review for the load and build them
+    // once afterwards (MySQL/MariaDB only)
+    private boolean deferIndexes = true;
+
+    // Write booking, notification and review rows with LOAD DATA LOCAL INFILE from tab-separated
+    // files in loadDirectory instead of batch inserts. Needs local_infile enabled on the server.
+    private boolean loadData = false;
+    private String loadDirectory = System.getProperty("java.io.tmpdir") + "/smarthub-datagen";
+
+    // Off until the rollup rebuild is fast enough for 10M bookings; POST /api/admin/stats/rebuild
+    // refills the rollups afterwards
+    private boolean rebuildStats = false;
+    private boolean exitWhenDone = true;
+}
@@ -0,0 +1,64 @@
+package com.smarthub.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldsets: {@code ?fields=bookingId,status} limits every view annotated with
+ * {@code @JsonFilter(FILTER_ID)} in the response to the listed properties. Unknown names are
+ * ignored; without the parameter all properties are written.
+ *
+ * Every Jackson body here is negotiated between JSON, CBOR and Smile, so the advice also marks
+ * the response Vary: Accept for shared caches.
+ */
+@RestControllerAdvice
+public class FieldsFilterAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+    
+    public static final String FILTER_ID = "fields";
+    
+    private static final String FIELDS_PARAM = "fields";
+    
+    // The filter id must always resolve, so the default writes everything
+    @Bean
+    public static Jackson2ObjectMapperBuilderCustomizer fieldsFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+            .addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+    
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (response instanceof ServletServerHttpResponse servletResponse) {
+            NegotiatedETags.varyOnAccept(servletResponse.getServletResponse());
+        }
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        String fields = servletRequest.getServletRequest().getParameter(FIELDS_PARAM);
+        if (fields == null || fields.isBlank()) {
+            return;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+        bodyContainer.setFilters(new SimpleFilterProvider()
+            .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names)));
+    }
+}
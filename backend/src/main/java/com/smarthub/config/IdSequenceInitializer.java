@@ -0,0 +1,58 @@
+package com.smarthub.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/**
+ * Moves every {@link PooledTableIdGenerator} row past the highest id already in its table before
+ * the app takes traffic. These tables were filled through AUTO_INCREMENT before they switched to
+ * the generator. Without this step the first blocks would start at 1 and collide with existing
+ * rows. The step is idempotent and only ever raises a row.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+    
+    // Generator segment (the table name) -> id column
+    private static final Map<String, String> SEGMENTS = Map.of(
+        "booking", "booking_id",
+        "notifications", "notification_id",
+        "review", "review_id");
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @PostConstruct
+    void init() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            SEGMENTS.forEach((table, idColumn) -> {
+                Long maxId = jdbcTemplate.queryForObject(
+                    "select coalesce(max(" + idColumn + "), 0) from " + table, Long.class);
+                // Hibernate stores the last id handed out, not the next one
+                long lastUsed = maxId != null ? maxId : 0;
+                int raised = jdbcTemplate.update("update " + PooledTableIdGenerator.TABLE
+                    + " set " + PooledTableIdGenerator.VALUE_COLUMN + " = ? where "
+                    + PooledTableIdGenerator.SEGMENT_COLUMN + " = ? and " + PooledTableIdGenerator.VALUE_COLUMN + " < ?",
+                    lastUsed, table, lastUsed);
+                if (raised == 0) {
+                    Integer rows = jdbcTemplate.queryForObject("select count(*) from " + PooledTableIdGenerator.TABLE
+                        + " where " + PooledTableIdGenerator.SEGMENT_COLUMN + " = ?", Integer.class, table);
+                    if (rows != null && rows == 0) {
+                        jdbcTemplate.update("insert into " + PooledTableIdGenerator.TABLE + " ("
+                            + PooledTableIdGenerator.SEGMENT_COLUMN + ", " + PooledTableIdGenerator.VALUE_COLUMN
+                            + ") values (?, ?)", table, lastUsed);
+                    }
+                }
+            }));
+    }
+}
@@ -0,0 +1,95 @@
+package com.smarthub.config;
+
+import com.smarthub.service.ProfileCacheService;
+import com.smarthub.service.SignupFilterService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Publishes the in-process counters behind the /api/admin/*-stats endpoints as meters, next to
+ * what Actuator instruments on its own (http.server.requests per route,
+ * spring.data.repository.invocations per repository method, hikaricp.* per pool, hibernate.* for
+ * the second-level and query caches). Values are read from the same getStats() maps at scrape
+ * time, so the admin endpoints and the metrics never disagree.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder smarthubStatsMetrics(RateLimitFilter rateLimitFilter, BulkheadAspect bulkheadAspect,
+                                            CoalescingAspect coalescingAspect, ProfileCacheService profileCacheService,
+                                            SignupFilterService signupFilterService,
+                                            ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+        return registry -> {
+            gauge(registry, "smarthub.ratelimit.concurrency.limit", "Adaptive concurrency limit over /api",
+                rateLimitFilter, RateLimitFilter::getStats, "concurrencyLimit");
+            gauge(registry, "smarthub.ratelimit.inflight", "Requests inside the concurrency limit",
+                rateLimitFilter, RateLimitFilter::getStats, "inFlight");
+            counter(registry, "smarthub.ratelimit.shed", "Requests shed with 503 by the concurrency limit",
+                rateLimitFilter, RateLimitFilter::getStats, "shed");
+            gauge(registry, "smarthub.ratelimit.buckets", "Active token buckets", rateLimitFilter, RateLimitFilter::getStats, "activeBuckets");
+
+            // Pools are fixed at startup (bulkhead.pools.*)
+            for (String pool : bulkheadAspect.getStats().keySet()) {
+                Function<BulkheadAspect, Map<String, Object>> stats = aspect -> aspect.getStats().get(pool);
+                gauge(registry, "smarthub.bulkhead.active", "Calls holding a permit", bulkheadAspect, stats, "active", "pool", pool);
+                gauge(registry, "smarthub.bulkhead.waiting", "Calls waiting for a permit", bulkheadAspect, stats, "waiting", "pool", pool);
+                counter(registry, "smarthub.bulkhead.acquired", "Calls admitted", bulkheadAspect, stats, "acquired", "pool", pool);
+                counter(registry, "smarthub.bulkhead.rejected", "Calls rejected with 503", bulkheadAspect, stats, "rejected", "pool", pool);
+            }
+
+            gauge(registry, "smarthub.coalesce.inflight", "Distinct reads in flight", coalescingAspect, CoalescingAspect::getStats, "inFlight");
+            counter(registry, "smarthub.coalesce.executions", "Reads executed", coalescingAspect, CoalescingAspect::getStats, "executions");
+            counter(registry, "smarthub.coalesce.coalesced", "Reads answered by another caller's execution",
+                coalescingAspect, CoalescingAspect::getStats, "coalesced");
+            counter(registry, "smarthub.coalesce.timeouts", "Coalesced reads that timed out", coalescingAspect, CoalescingAspect::getStats, "timeouts");
+
+            gauge(registry, "smarthub.cache.hit.ratio", "Second-level cache hit ratio since startup",
+                profileCacheService, ProfileCacheService::getStats, "entityHitRatio", "cache", "entity");
+            gauge(registry, "smarthub.cache.hit.ratio", "Second-level cache hit ratio since startup",
+                profileCacheService, ProfileCacheService::getStats, "queryHitRatio", "cache", "query");
+
+            counter(registry, "smarthub.signup.filter.checks", "Signup duplicate checks", signupFilterService, SignupFilterService::getStats, "checks");
+            counter(registry, "smarthub.signup.filter.negatives", "Checks answered by the Bloom filter alone",
+                signupFilterService, SignupFilterService::getStats, "definiteNegatives");
+
+            ReplicaRoutingDataSource replicas = replicaRoutingDataSource.getIfAvailable();
+            if (replicas != null) {
+                counter(registry, "smarthub.datasource.primary.reads", "Reads routed to the primary",
+                    replicas, ReplicaRoutingDataSource::getStats, "primaryReads");
+                counter(registry, "smarthub.datasource.sticky.reads", "Reads kept on the primary after the caller's write",
+                    replicas, ReplicaRoutingDataSource::getStats, "stickyReads");
+            }
+        };
+    }
+
+    // The bean is the meter's source object: meters only hold it weakly and beans live as long as the registry
+    private static <T> void gauge(MeterRegistry registry, String name, String description, T source,
+                                  Function<T, Map<String, Object>> stats, String key, String... tags) {
+        Gauge.builder(name, source, bean -> number(stats.apply(bean), key))
+            .description(description)
+            .tags(tags)
+            .register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, String description, T source,
+                                    Function<T, Map<String, Object>> stats, String key, String... tags) {
+        FunctionCounter.builder(name, source, bean -> number(stats.apply(bean), key))
+            .description(description)
+            .tags(tags)
+            .register(registry);
+    }
+
+    private static double number(Map<String, Object> stats, String key) {
+        Object value = stats != null ? stats.get(key) : null;
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+    }
+}
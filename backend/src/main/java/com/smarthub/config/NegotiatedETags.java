@@ -0,0 +1,80 @@
+package com.smarthub.config;
+
+import com.smarthub.dto.CollectionVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ETags for list responses that BinaryFormatsConfig negotiates between JSON, CBOR and Smile.
+ *
+ * The same rows encode to different bytes in each format, so the format selected by the Accept
+ * header is part of the tag and a JSON validator never revalidates a CBOR body. Vary: Accept is
+ * set here too, because a 304 never reaches the response advice that adds it to full responses.
+ */
+public final class NegotiatedETags {
+
+    // Converter order: JSON answers a missing Accept header or */*
+    private static final Map<MediaType, String> FORMATS = new LinkedHashMap<>();
+
+    static {
+        FORMATS.put(MediaType.APPLICATION_JSON, "json");
+        FORMATS.put(MediaType.APPLICATION_CBOR, "cbor");
+        FORMATS.put(new MediaType("application", "x-jackson-smile"), "smile");
+    }
+
+    private NegotiatedETags() {
+    }
+
+    public static String weakETag(CollectionVersion version, WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            varyOnAccept(servletRequest.getResponse());
+        }
+        return version.toWeakETag(format(request.getHeader(HttpHeaders.ACCEPT)));
+    }
+
+    public static void varyOnAccept(HttpServletResponse response) {
+        boolean present = response.getHeaders(HttpHeaders.VARY).stream()
+            .flatMap(value -> Arrays.stream(value.split(",")))
+            .map(String::trim)
+            .anyMatch(name -> name.equals("*") || name.equalsIgnoreCase(HttpHeaders.ACCEPT));
+        if (!present) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+
+    // What content negotiation picks: the first format the highest-quality accepted type matches
+    static String format(String accept) {
+        List<MediaType> accepted;
+        try {
+            accepted = accept == null || accept.isBlank()
+                ? List.of(MediaType.ALL)
+                : new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            accepted = List.of(MediaType.ALL);
+        }
+        List<MediaType> byQuality = new ArrayList<>(accepted);
+        byQuality.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : byQuality) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (Map.Entry<MediaType, String> format : FORMATS.entrySet()) {
+                if (type.isCompatibleWith(format.getKey())) {
+                    return format.getValue();
+                }
+            }
+        }
+        return FORMATS.get(MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,43 @@
+package com.smarthub.config;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Table-backed hi/lo id generator for the high-volume entities. Hibernate cannot batch inserts
+ * for IDENTITY columns because it needs each generated key straight away. This generator
+ * reserves a block of ids per round trip to the {@value #TABLE} table, so persists need no
+ * database access until flush, and flush sends the inserts as JDBC batches.
+ *
+ * Every entity has its own row in the table, named by the segment_value parameter. The block size
+ * is the smarthub.id.allocation_size Hibernate setting. With the pooled-lo optimizer the stored
+ * value is the last id of the most recently reserved block. Changing the block size between
+ * restarts or running several app instances therefore never hands out an id twice.
+ */
+public class PooledTableIdGenerator extends TableGenerator {
+    
+    public static final String TABLE = "id_sequences";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    
+    public static final String ALLOCATION_SIZE_SETTING = "smarthub.id.allocation_size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+    
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        Object allocationSize = serviceRegistry.getService(ConfigurationService.class)
+            .getSettings().get(ALLOCATION_SIZE_SETTING);
+        params.setProperty(TABLE_PARAM, TABLE);
+        params.setProperty(SEGMENT_COLUMN_PARAM, SEGMENT_COLUMN);
+        params.setProperty(VALUE_COLUMN_PARAM, VALUE_COLUMN);
+        params.setProperty(INCREMENT_PARAM,
+            allocationSize != null ? allocationSize.toString() : String.valueOf(DEFAULT_ALLOCATION_SIZE));
+        params.setProperty(OPT_PARAM, "pooled-lo");
+        super.configure(type, params, serviceRegistry);
+    }
+}
@@ -0,0 +1,252 @@
+package com.smarthub.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-route rate limiting and load shedding for the API, entirely in-process.
+ *
+ * 1. Token buckets per configured policy and client (IP, or the mobile number in the JSON body for
+ *    login-style routes) answer bursts and retry storms with 429 and Retry-After.
+ * 2. An adaptive concurrency limit over all /api requests sheds with 503 once latency rises, so
+ *    a slow database is not buried under more concurrent work than the pool can serve.
+ *
+ * Runs right after the CORS filter so rejected responses are still readable by the browser.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_BUCKETS = 100_000;
+    private static final int MAX_KEYED_BODY = 8 * 1024;
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // JSON, CBOR and Smile, so login bodies are keyed by mobile whatever their encoding
+    @Autowired
+    private List<AbstractJackson2HttpMessageConverter> bodyConverters;
+
+    // A bucket left alone for as long as the slowest policy takes to refill is full again and
+    // carries no state, so expiring it after that much idle time forgets nothing. The size bound
+    // only matters under a flood of distinct clients, and then evicts the least recently used.
+    private Cache<String, TokenBucket> buckets;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @PostConstruct
+    void init() {
+        double refillSeconds = 1;
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            refillSeconds = Math.max(refillSeconds, policy.getCapacity() / policy.getRefillPerSecond());
+        }
+        buckets = Caffeine.newBuilder()
+            .maximumSize(MAX_BUCKETS)
+            .expireAfterAccess(Duration.ofMillis((long) Math.ceil(refillSeconds * 1000)))
+            .build();
+        RateLimitProperties.Concurrency concurrency = properties.getConcurrency();
+        limiter = new AdaptiveConcurrencyLimiter(concurrency.getInitialLimit(), concurrency.getMinLimit(),
+            concurrency.getMaxLimit(), concurrency.getLatencyTolerance());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+            || "OPTIONS".equalsIgnoreCase(request.getMethod())
+            || !path(request).startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String path = path(request);
+        HttpServletRequest current = request;
+
+        for (int i = 0; i < properties.getPolicies().size(); i++) {
+            RateLimitProperties.Policy policy = properties.getPolicies().get(i);
+            if (!matches(policy, request.getMethod(), path)) {
+                continue;
+            }
+            String client = request.getRemoteAddr();
+            if ("mobile".equalsIgnoreCase(policy.getKey())) {
+                long length = request.getContentLengthLong();
+                if (!(current instanceof CachedBodyRequest) && length >= 0 && length <= MAX_KEYED_BODY) {
+                    current = new CachedBodyRequest(request);
+                }
+                String mobile = current instanceof CachedBodyRequest ? mobileOf((CachedBodyRequest) current) : null;
+                client = mobile != null ? "m:" + mobile : client;
+            }
+            long waitNanos = bucket(i, policy, client).tryAcquire(System.nanoTime());
+            if (waitNanos > 0) {
+                long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+                reject(response, 429, retryAfter, "Too many requests. Please retry in " + retryAfter + " seconds.");
+                return;
+            }
+        }
+
+        boolean limited = properties.getConcurrency().isEnabled() && !excluded(path);
+        if (!limited) {
+            chain.doFilter(current, response);
+            return;
+        }
+        if (!limiter.tryAcquire()) {
+            reject(response, 503, 1, "Server is busy. Please retry shortly.");
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(current, response);
+        } finally {
+            limiter.release(System.nanoTime() - started);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("concurrencyLimit", limiter.getLimit());
+        stats.put("inFlight", limiter.getInFlight());
+        stats.put("shed", limiter.getRejected());
+        stats.put("recentLatencyMicros", limiter.getRecentLatencyMicros());
+        stats.put("baselineLatencyMicros", limiter.getBaselineLatencyMicros());
+        stats.put("activeBuckets", buckets.estimatedSize());
+        return stats;
+    }
+
+    private TokenBucket bucket(int policyIndex, RateLimitProperties.Policy policy, String client) {
+        return buckets.get(policyIndex + "|" + client,
+            k -> new TokenBucket(policy.getCapacity(), policy.getRefillPerSecond()));
+    }
+
+    private boolean matches(RateLimitProperties.Policy policy, String method, String path) {
+        if (policy.getMethod() != null && !policy.getMethod().isEmpty() && !policy.getMethod().equalsIgnoreCase(method)) {
+            return false;
+        }
+        String pattern = policy.getPath();
+        if (pattern.endsWith("/**")) {
+            String prefix = pattern.substring(0, pattern.length() - 3);
+            return path.equals(prefix) || path.startsWith(prefix + "/");
+        }
+        return path.equals(pattern);
+    }
+
+    private boolean excluded(String path) {
+        for (String prefix : properties.getConcurrency().getExcludedPaths()) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String mobileOf(CachedBodyRequest request) {
+        try {
+            MediaType contentType = request.getContentType() != null
+                ? MediaType.parseMediaType(request.getContentType()) : MediaType.APPLICATION_JSON;
+            ObjectMapper reader = objectMapper;
+            for (AbstractJackson2HttpMessageConverter converter : bodyConverters) {
+                if (converter.canRead(JsonNode.class, contentType)) {
+                    reader = converter.getObjectMapper();
+                    break;
+                }
+            }
+            JsonNode mobile = reader.readTree(request.body).get("mobile");
+            return mobile != null && mobile.isTextual() ? mobile.asText() : null;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private void reject(HttpServletResponse response, int status, long retryAfterSeconds, String message) throws IOException {
+        response.setStatus(status);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(objectMapper.writeValueAsString(Map.of("message", message)));
+    }
+
+    // Buffers a small request body so the filter can read it and the controller can read it again
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory, so it is available and complete at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.smarthub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "ratelimit")
+public class RateLimitProperties {
+    
+    private boolean enabled = true;
+    
+    private List<Policy> policies = new ArrayList<>();
+    
+    private Concurrency concurrency = new Concurrency();
+    
+    @Data
+    public static class Policy {
+        // Exact request path (e.g. /api/auth/login) or a prefix ending in /** (e.g. /api/bookings/**)
+        private String path;
+        
+        // HTTP method the policy applies to; empty for any
+        private String method;
+        
+        // Burst size and sustained rate of the token bucket
+        private int capacity = 10;
+        private double refillPerSecond = 1.0;
+        
+        // "ip", or "mobile" to key by the mobile field of a JSON body (falls back to ip)
+        private String key = "ip";
+    }
+    
+    @Data
+    public static class Concurrency {
+        private boolean enabled = true;
+        
+        // Starting, lowest and highest number of concurrent /api requests
+        private int initialLimit = 50;
+        private int minLimit = 8;
+        private int maxLimit = 200;
+        
+        // Shrink the limit when latency exceeds the observed baseline by this factor
+        private double latencyTolerance = 2.0;
+        
+        // Long-running endpoints that must not be counted (streaming exports)
+        private List<String> excludedPaths = new ArrayList<>(List.of("/api/admin/export/"));
+    }
+}
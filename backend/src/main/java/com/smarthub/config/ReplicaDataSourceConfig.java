@@ -0,0 +1,72 @@
+package com.smarthub.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Only active with datasource.replica.enabled=true; otherwise Boot's single auto-configured pool is used.
+// The primary pool keeps binding spring.datasource.* and spring.datasource.hikari.*; each replica
+// gets a copy of those pool settings with its own URL.
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+    
+    @Bean(destroyMethod = "shutdown")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource, ReplicaProperties properties,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : properties.getUrls()) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName("replica-" + (replicas.size() + 1));
+            config.setJdbcUrl(url);
+            if (properties.getUsername() != null && !properties.getUsername().isEmpty()) {
+                config.setUsername(properties.getUsername());
+                config.setPassword(properties.getPassword());
+            }
+            if (properties.getMaximumPoolSize() > 0) {
+                config.setMaximumPoolSize(properties.getMaximumPoolSize());
+            }
+            config.setConnectionTimeout(properties.getConnectionTimeoutMs());
+            // Let the application start while a replica is down; the health check picks it up later
+            config.setInitializationFailTimeout(-1);
+            config.setReadOnly(true);
+            HikariDataSource replica = new HikariDataSource(config);
+            // Actuator only instruments pools that are beans; report hikaricp.* for the replicas too
+            if (replica.getMetricsTrackerFactory() == null) {
+                meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            }
+            replicas.put(config.getPoolName(), replica);
+        }
+        System.out.println("Routing read-only transactions to " + replicas.size() + " replica(s)");
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+            properties.getStickyMs(), properties.getHealthCheckIntervalMs());
+    }
+    
+    // What JPA and JdbcTemplate see: the physical connection is chosen at the first statement,
+    // after the transaction's read-only flag is known
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
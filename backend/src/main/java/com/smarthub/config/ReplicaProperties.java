@@ -0,0 +1,34 @@
+package com.smarthub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaProperties {
+    
+    private boolean enabled = false;
+    
+    // JDBC URLs of the read replicas
+    private List<String> urls = new ArrayList<>();
+    
+    // Defaults to the primary's credentials when empty
+    private String username;
+    private String password;
+    
+    // Defaults to the primary's pool size when 0
+    private int maximumPoolSize = 0;
+    
+    // Kept short so a dead replica fails over quickly instead of holding the request
+    private long connectionTimeoutMs = 1000;
+    
+    // How long a caller's reads stay on the primary after its own write
+    private long stickyMs = 5000;
+    
+    private long healthCheckIntervalMs = 5000;
+}
@@ -0,0 +1,206 @@
+package com.smarthub.config;
+
+import com.smarthub.dto.TokenClaims;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends connections for read-only transactions to the replicas and everything else to the primary.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction's read-only flag is only known
+ * once the transaction has started, so the physical connection is fetched at the first statement.
+ *
+ * - Replicas are picked round-robin among the healthy ones. A replica that fails to hand out a
+ *   connection is marked down at once and the next one (finally the primary) is tried. A
+ *   background check marks it up again once it answers.
+ * - Read-your-writes: after a caller commits a write, its reads stay on the primary for
+ *   stickyMillis so they never see a replica that has not caught up yet. The caller is the
+ *   token subject of the current request, or its remote address when there is no token.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    
+    private static final int MAX_STICKY_CALLERS = 10_000;
+    
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long stickyMillis;
+    
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService healthCheck = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-health");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private final AtomicLong primaryReads = new AtomicLong();
+    private final AtomicLong stickyReads = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    long stickyMillis, long healthCheckIntervalMillis) {
+        this.primary = primary;
+        this.stickyMillis = stickyMillis;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        healthCheck.scheduleWithFixedDelay(this::checkReplicas,
+            healthCheckIntervalMillis, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(null, null);
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(username, password);
+    }
+    
+    public void shutdown() {
+        healthCheck.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    System.err.println("⚠️ Failed to close replica " + replica.name + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+    
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        List<Map<String, Object>> replicaStats = new ArrayList<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", replica.name);
+            entry.put("healthy", replica.healthy);
+            entry.put("reads", replica.reads.get());
+            entry.put("failures", replica.failures.get());
+            replicaStats.add(entry);
+        }
+        stats.put("replicas", replicaStats);
+        stats.put("primaryWrites", writes.get());
+        stats.put("primaryReads", primaryReads.get());
+        stats.put("stickyReads", stickyReads.get());
+        stats.put("stickyCallers", lastWrites.size());
+        stats.put("stickyMillis", stickyMillis);
+        return stats;
+    }
+    
+    private Connection route(String username, String password) throws SQLException {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+            && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly) {
+            recordWrite();
+            return connect(primary, username, password);
+        }
+        String caller = caller();
+        Long lastWrite = caller != null ? lastWrites.get(caller) : null;
+        if (lastWrite != null && System.currentTimeMillis() - lastWrite < stickyMillis) {
+            stickyReads.incrementAndGet();
+            return connect(primary, username, password);
+        }
+        
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, replicas.size()));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = connect(replica.dataSource, username, password);
+                replica.reads.incrementAndGet();
+                return connection;
+            } catch (SQLException e) {
+                replica.healthy = false;
+                replica.failures.incrementAndGet();
+                System.err.println("⚠️ Replica " + replica.name + " unavailable, failing over: " + e.getMessage());
+            }
+        }
+        primaryReads.incrementAndGet();
+        return connect(primary, username, password);
+    }
+    
+    // Starts the caller's sticky window once its write transaction commits
+    private void recordWrite() {
+        writes.incrementAndGet();
+        String caller = caller();
+        if (caller == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (lastWrites.size() >= MAX_STICKY_CALLERS) {
+                    long cutoff = System.currentTimeMillis() - stickyMillis;
+                    lastWrites.values().removeIf(time -> time < cutoff);
+                }
+                lastWrites.put(caller, System.currentTimeMillis());
+            }
+        });
+    }
+    
+    private String caller() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+        Object claims = attributes.getAttribute(TokenAuthFilter.CLAIMS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (claims instanceof TokenClaims tokenClaims) {
+            return tokenClaims.getRole() + ":" + tokenClaims.getId();
+        }
+        return "ip:" + ((ServletRequestAttributes) attributes).getRequest().getRemoteAddr();
+    }
+    
+    private Connection connect(DataSource dataSource, String username, String password) throws SQLException {
+        return username != null ? dataSource.getConnection(username, password) : dataSource.getConnection();
+    }
+    
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(2);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                System.out.println("Replica " + replica.name + " is now " + (healthy ? "healthy" : "down"));
+                replica.healthy = healthy;
+            }
+        }
+    }
+    
+    private static class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile boolean healthy = true;
+        final AtomicLong reads = new AtomicLong();
+        final AtomicLong failures = new AtomicLong();
+        
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
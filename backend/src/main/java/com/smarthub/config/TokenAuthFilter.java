@@ -0,0 +1,64 @@
+package com.smarthub.config;
+
+import com.smarthub.dto.TokenClaims;
+import com.smarthub.service.TokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Verifies the "Authorization: Bearer" session token and exposes its claims as the
+ * {@link #CLAIMS_ATTRIBUTE} request attribute.
+ *
+ * With auth.token.enforce=false (the default while clients roll out) requests without a valid
+ * token pass through unauthenticated. With enforce=true every /api/** request except /api/auth/**
+ * and CORS preflights needs a valid token and gets 401 otherwise.
+ */
+@Component
+public class TokenAuthFilter extends OncePerRequestFilter {
+    
+    public static final String CLAIMS_ATTRIBUTE = "smarthub.tokenClaims";
+    
+    private static final String BEARER = "Bearer ";
+    
+    @Autowired
+    private TokenService tokenService;
+    
+    @Value("${auth.token.enforce:false}")
+    private boolean enforce;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        TokenClaims claims = header != null && header.startsWith(BEARER)
+            ? tokenService.verify(header.substring(BEARER.length()).trim())
+            : null;
+        
+        if (claims != null) {
+            request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        } else if (enforce && requiresToken(request)) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"message\":\"Missing or invalid session token\"}");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+    
+    private boolean requiresToken(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/api/")
+            && !path.startsWith("/api/auth/")
+            && !"OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+}
@@ -0,0 +1,37 @@
+package com.smarthub.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: a single "theoretical arrival time" advanced with CAS.
+ *
+ * Each permit moves the arrival time forward by one emission interval; a request is allowed while
+ * the arrival time stays within capacity intervals of now. Equivalent to a bucket of capacity
+ * tokens refilled at refillPerSecond, without a lock or a refill thread.
+ */
+public class TokenBucket {
+    
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong arrival = new AtomicLong(Long.MIN_VALUE);
+    
+    public TokenBucket(int capacity, double refillPerSecond) {
+        this.intervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstNanos = intervalNanos * capacity;
+    }
+    
+    // Returns 0 when a permit was taken, otherwise the nanoseconds until one becomes available
+    public long tryAcquire(long now) {
+        while (true) {
+            long current = arrival.get();
+            long base = Math.max(current, now);
+            long next = base + intervalNanos;
+            if (next - now > burstNanos) {
+                return next - now - burstNanos;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.smarthub.config;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Refuses to start while a method in the write bulkhead ({@link Bulkhead#BOOKING}) is not declared
+ * to run in a read-write transaction.
+ *
+ * Without one, a read-modify-write method reads through the repositories' own read-only
+ * transactions, which go to a replica once replicas are enabled, and then writes a stale row
+ * to the primary. Inside a write transaction every statement goes to the primary.
+ */
+@Component
+public class WriteTransactionCheck implements SmartInitializingSingleton {
+
+    private final AnnotationTransactionAttributeSource transactionAttributes = new AnnotationTransactionAttributeSource();
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> missing = new ArrayList<>();
+        for (Object bean : applicationContext.getBeansWithAnnotation(Service.class).values()) {
+            Class<?> type = AopUtils.getTargetClass(bean);
+            for (Method method : type.getDeclaredMethods()) {
+                if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers()) || method.isSynthetic()) {
+                    continue;
+                }
+                if (Bulkhead.BOOKING.equals(bulkheadOf(method, type)) && !writeTransaction(method, type)) {
+                    missing.add(type.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Write methods without a read-write @Transactional: " + String.join(", ", missing));
+        }
+    }
+
+    // Same lookup as BulkheadAspect: the method annotation overrides the class
+    private String bulkheadOf(Method method, Class<?> type) {
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(type, Bulkhead.class);
+        }
+        return bulkhead != null ? bulkhead.value() : null;
+    }
+
+    private boolean writeTransaction(Method method, Class<?> type) {
+        TransactionAttribute attribute = transactionAttributes.getTransactionAttribute(method, type);
+        if (attribute == null || attribute.isReadOnly()) {
+            return false;
+        }
+        int propagation = attribute.getPropagationBehavior();
+        return propagation != TransactionDefinition.PROPAGATION_SUPPORTS
+            && propagation != TransactionDefinition.PROPAGATION_NOT_SUPPORTED
+            && propagation != TransactionDefinition.PROPAGATION_NEVER;
+    }
+}
@@ -1,16 +1,34 @@
 package com.smarthub.controller;
 
-import com.smarthub.entity.User;
-import com.smarthub.entity.ServiceProvider;
-import com.smarthub.entity.Booking;
+import com.smarthub.config.BulkheadAspect;
+import com.smarthub.config.CoalescingAspect;
+import com.smarthub.config.RateLimitFilter;
+import com.smarthub.config.ReplicaRoutingDataSource;
+import com.smarthub.dto.*;
 import com.smarthub.entity.Complaint;
+import com.smarthub.service.AdminExportService;
+import com.smarthub.service.AdminQueryService;
 import com.smarthub.service.AdminService;
+import com.smarthub.service.ProfileCacheService;
+import com.smarthub.service.ProviderImportService;
+import com.smarthub.service.QueryPlanService;
+import com.smarthub.service.SignupFilterService;
+import com.smarthub.service.StatsRollupService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -19,18 +37,52 @@ public class AdminController {
     @Autowired
     private AdminService adminService;
     
+    @Autowired
+    private AdminExportService adminExportService;
+    
+    @Autowired
+    private AdminQueryService adminQueryService;
+    
+    @Autowired
+    private StatsRollupService statsRollupService;
+    
+    @Autowired
+    private ProviderImportService providerImportService;
+    
+    @Autowired
+    private SignupFilterService signupFilterService;
+    
+    @Autowired
+    private QueryPlanService queryPlanService;
+    
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+    
+    @Autowired
+    private BulkheadAspect bulkheadAspect;
+    
+    @Autowired
+    private CoalescingAspect coalescingAspect;
+    
+    @Autowired
+    private ProfileCacheService profileCacheService;
+    
+    // Only present when read replicas are configured
+    @Autowired(required = false)
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+    
     @GetMapping("/users")
-    public ResponseEntity<List<User>> getAllUsers() {
+    public ResponseEntity<List<UserView>> getAllUsers() {
         return ResponseEntity.ok(adminService.getAllUsers());
     }
     
     @GetMapping("/providers")
-    public ResponseEntity<List<ServiceProvider>> getAllProviders() {
+    public ResponseEntity<List<ProviderView>> getAllProviders() {
         return ResponseEntity.ok(adminService.getAllProviders());
     }
     
     @GetMapping("/bookings")
-    public ResponseEntity<List<Booking>> getAllBookings() {
+    public ResponseEntity<List<BookingView>> getAllBookings() {
         return ResponseEntity.ok(adminService.getAllBookings());
     }
     
@@ -39,6 +91,98 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllComplaints());
     }
     
+    // Keyset-paginated listings: ?cursor=&size=&sort=&direction=&status=&serviceType=&from=&to=&q=
+    @GetMapping("/users/page")
+    public ResponseEntity<KeysetPage<UserRow>> pageUsers(@ModelAttribute AdminTableFilter filter) {
+        return ResponseEntity.ok(adminQueryService.pageUsers(filter));
+    }
+    
+    @GetMapping("/providers/page")
+    public ResponseEntity<KeysetPage<ProviderRow>> pageProviders(@ModelAttribute AdminTableFilter filter) {
+        return ResponseEntity.ok(adminQueryService.pageProviders(filter));
+    }
+    
+    @GetMapping("/bookings/page")
+    public ResponseEntity<KeysetPage<BookingRow>> pageBookings(@ModelAttribute AdminTableFilter filter) {
+        return ResponseEntity.ok(adminQueryService.pageBookings(filter));
+    }
+    
+    @GetMapping("/complaints/page")
+    public ResponseEntity<KeysetPage<ComplaintRow>> pageComplaints(@ModelAttribute AdminTableFilter filter) {
+        return ResponseEntity.ok(adminQueryService.pageComplaints(filter));
+    }
+    
+    // Dashboard analytics served from the rollup tables only (defaults to the last 30 days)
+    @GetMapping("/stats")
+    public ResponseEntity<AdminStatsResponse> getStats(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(statsRollupService.getStats(from, to));
+    }
+    
+    // Recompute rollups from scratch (backfill / drift repair)
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<Map<String, Long>> rebuildStats() {
+        return ResponseEntity.ok(statsRollupService.rebuild());
+    }
+    
+    // Bulk provider onboarding from CSV; per-row errors are reported, valid rows are imported
+    @PostMapping(value = "/providers/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProviderImportResult> importProviders(
+        @RequestParam("file") MultipartFile file,
+        @RequestParam(required = false) String defaultPassword
+    ) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(providerImportService.importCsv(in, defaultPassword));
+        }
+    }
+    
+    // Size, fill and observed false-positive rate of the signup duplicate-check Bloom filters
+    @GetMapping("/signup-filter")
+    public ResponseEntity<Map<String, Object>> getSignupFilterStats() {
+        return ResponseEntity.ok(signupFilterService.getStats());
+    }
+    
+    // EXPLAIN of every request-path repository query: chosen index, candidates and access type
+    @GetMapping("/query-plans")
+    public ResponseEntity<List<Map<String, Object>>> getQueryPlans() {
+        return ResponseEntity.ok(queryPlanService.explainAll());
+    }
+    
+    // Permits in use, waits and rejections per bulkhead (booking, read, auth, search, admin)
+    @GetMapping("/bulkheads")
+    public ResponseEntity<Map<String, Map<String, Object>>> getBulkheadStats() {
+        return ResponseEntity.ok(bulkheadAspect.getStats());
+    }
+    
+    // How many hot-read calls ran versus joined an identical call already in flight
+    @GetMapping("/coalescing")
+    public ResponseEntity<Map<String, Object>> getCoalescingStats() {
+        return ResponseEntity.ok(coalescingAspect.getStats());
+    }
+    
+    // Hit/miss/put counts of the profile second-level cache and the query cache
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(profileCacheService.getStats());
+    }
+    
+    // Replica health and how reads were routed
+    @GetMapping("/replicas")
+    public ResponseEntity<Map<String, Object>> getReplicaStats() {
+        if (replicaRoutingDataSource == null) {
+            return ResponseEntity.ok(Map.of("enabled", false));
+        }
+        return ResponseEntity.ok(replicaRoutingDataSource.getStats());
+    }
+    
+    // Current adaptive concurrency limit, in-flight requests and shed count
+    @GetMapping("/rate-limits")
+    public ResponseEntity<Map<String, Object>> getRateLimitStats() {
+        return ResponseEntity.ok(rateLimitFilter.getStats());
+    }
+    
     @PutMapping("/complaints/{id}")
     public ResponseEntity<Complaint> updateComplaint(
         @PathVariable Integer id,
@@ -50,4 +194,34 @@ public class AdminController {
             request.get("response")
         ));
     }
+    
+    // Stream a whole table as CSV or NDJSON without loading it into memory
+    @GetMapping("/export/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+        @PathVariable String dataset,
+        @RequestParam(defaultValue = "csv") String format,
+        @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        AdminExportService.Dataset exportDataset = AdminExportService.Dataset.from(dataset);
+        AdminExportService.Format exportFormat = AdminExportService.Format.from(format);
+        
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024);
+                adminExportService.export(exportDataset, exportFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                adminExportService.export(exportDataset, exportFormat, out);
+            }
+        };
+        
+        String filename = exportDataset.name().toLowerCase() + "." + exportFormat.getExtension();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
 }
@@ -3,7 +3,9 @@ package com.smarthub.controller;
 import com.smarthub.dto.LoginRequest;
 import com.smarthub.dto.LoginResponse;
 import com.smarthub.dto.SignupRequest;
+import com.smarthub.exception.ServiceBusyException;
 import com.smarthub.service.AuthService;
+import com.smarthub.service.TokenService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -22,6 +24,9 @@ public class AuthController {
     @Autowired
     private AuthService authService;
     
+    @Autowired
+    private TokenService tokenService;
+    
     // Test endpoint
     @GetMapping("/test")
     public ResponseEntity<Map<String, String>> test() {
@@ -42,8 +47,11 @@ public class AuthController {
         
         try {
             LoginResponse response = authService.register(request);
+            response.setToken(tokenService.issue(response.getRole(), response.getId()));
             System.out.println("Registration successful for: " + request.getMobile());
             return ResponseEntity.ok(response);
+        } catch (ServiceBusyException e) {
+            throw e;
         } catch (IllegalArgumentException e) {
             System.err.println("Validation error: " + e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -67,8 +75,12 @@ public class AuthController {
         
         try {
             LoginResponse response = authService.login(request);
+            response.setToken(tokenService.issue(response.getRole(), response.getId()));
             System.out.println("Login successful for: " + request.getMobile());
             return ResponseEntity.ok(response);
+        } catch (ServiceBusyException e) {
+            // Handled globally as 503 so clients back off instead of reporting bad credentials
+            throw e;
         } catch (Exception e) {
             System.err.println("Login error: " + e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -0,0 +1,24 @@
+package com.smarthub.controller;
+
+import com.smarthub.dto.BatchRequest;
+import com.smarthub.dto.BatchSubResponse;
+import com.smarthub.service.BatchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+    
+    @Autowired
+    private BatchService batchService;
+    
+    // Executes several GET sub-requests in one round trip; responses come back in request order
+    @PostMapping
+    public ResponseEntity<List<BatchSubResponse>> execute(@RequestBody BatchRequest request) {
+        return ResponseEntity.ok(batchService.execute(request));
+    }
+}
@@ -1,12 +1,15 @@
 package com.smarthub.controller;
 
+import com.smarthub.config.NegotiatedETags;
 import com.smarthub.dto.BookingRequest;
-import com.smarthub.entity.Booking;
+import com.smarthub.dto.BookingView;
 import com.smarthub.service.BookingService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -19,24 +22,35 @@ public class BookingController {
     private BookingService bookingService;
 
     @PostMapping
-    public ResponseEntity<Booking> createBooking(@Valid @RequestBody BookingRequest request) {
-        return ResponseEntity.ok(bookingService.createBooking(request));
+    public ResponseEntity<BookingView> createBooking(@Valid @RequestBody BookingRequest request) {
+        return ResponseEntity.ok(BookingView.from(bookingService.createBooking(request)));
     }
 
+    // Booking lists answer If-None-Match with 304 from a count/max(updated_at) query
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Booking>> getUserBookings(@PathVariable Integer userId) {
-        return ResponseEntity.ok(bookingService.getUserBookings(userId));
+    public ResponseEntity<List<BookingView>> getUserBookings(@PathVariable Integer userId, WebRequest request) {
+        String etag = NegotiatedETags.weakETag(bookingService.getUserBookingsVersion(userId), request);
+        if (request.checkNotModified(etag)) {
+            // 304 already prepared; the rows are never loaded
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(bookingService.getUserBookings(userId));
     }
 
     @GetMapping("/provider/{providerId}")
-    public ResponseEntity<List<Booking>> getProviderBookings(@PathVariable Integer providerId) {
-        return ResponseEntity.ok(bookingService.getProviderBookings(providerId));
+    public ResponseEntity<List<BookingView>> getProviderBookings(@PathVariable Integer providerId, WebRequest request) {
+        String etag = NegotiatedETags.weakETag(bookingService.getProviderBookingsVersion(providerId), request);
+        if (request.checkNotModified(etag)) {
+            // 304 already prepared; the rows are never loaded
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(bookingService.getProviderBookings(providerId));
     }
 
     // ✅ Support both PUT and PATCH methods
     @PutMapping("/{bookingId}/status")
     @PatchMapping("/{bookingId}/status")
-    public ResponseEntity<Booking> updateStatus(
+    public ResponseEntity<BookingView> updateStatus(
             @PathVariable Integer bookingId,
             @RequestBody Map<String, String> request) {
         
@@ -46,12 +60,12 @@ public class BookingController {
         }
         
         return ResponseEntity.ok(
-            bookingService.updateBookingStatus(bookingId, status)
+            BookingView.from(bookingService.updateBookingStatus(bookingId, status))
         );
     }
 
     @GetMapping
-    public ResponseEntity<List<Booking>> getAllBookings() {
+    public ResponseEntity<List<BookingView>> getAllBookings() {
         return ResponseEntity.ok(bookingService.getAllBookings());
     }
 }
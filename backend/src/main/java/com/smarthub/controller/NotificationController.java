@@ -1,11 +1,15 @@
 package com.smarthub.controller;
 
+import com.smarthub.config.NegotiatedETags;
+import com.smarthub.dto.NotificationView;
 import com.smarthub.entity.Notification;
 import com.smarthub.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -20,23 +24,33 @@ public class NotificationController {
     
     // Create notification
     @PostMapping
-    public ResponseEntity<Notification> createNotification(@RequestBody Notification notification) {
+    public ResponseEntity<NotificationView> createNotification(@RequestBody Notification notification) {
         Notification created = notificationService.createNotification(notification);
-        return new ResponseEntity<>(created, HttpStatus.CREATED);
+        return new ResponseEntity<>(NotificationView.from(created), HttpStatus.CREATED);
     }
     
-    // Get all notifications for a user/provider
+    // Get all notifications for a user/provider (conditional on If-None-Match)
     @GetMapping("/{receiverId}")
-    public ResponseEntity<List<Notification>> getNotifications(@PathVariable Integer receiverId) {
-        List<Notification> notifications = notificationService.getNotificationsByReceiverId(receiverId);
-        return ResponseEntity.ok(notifications);
+    public ResponseEntity<List<NotificationView>> getNotifications(@PathVariable Integer receiverId, WebRequest request) {
+        String etag = NegotiatedETags.weakETag(notificationService.getVersion(receiverId), request);
+        if (request.checkNotModified(etag)) {
+            // 304 already prepared; the rows are never loaded
+            return null;
+        }
+        List<NotificationView> notifications = notificationService.getNotificationsByReceiverId(receiverId);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(notifications);
     }
     
-    // Get unread notifications
+    // Get unread notifications (conditional on If-None-Match)
     @GetMapping("/{receiverId}/unread")
-    public ResponseEntity<List<Notification>> getUnreadNotifications(@PathVariable Integer receiverId) {
-        List<Notification> notifications = notificationService.getUnreadNotifications(receiverId);
-        return ResponseEntity.ok(notifications);
+    public ResponseEntity<List<NotificationView>> getUnreadNotifications(@PathVariable Integer receiverId, WebRequest request) {
+        String etag = NegotiatedETags.weakETag(notificationService.getVersion(receiverId), request);
+        if (request.checkNotModified(etag)) {
+            // 304 already prepared; the rows are never loaded
+            return null;
+        }
+        List<NotificationView> notifications = notificationService.getUnreadNotifications(receiverId);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(notifications);
     }
     
     // Get unread count
@@ -48,9 +62,9 @@ public class NotificationController {
     
     // Mark notification as read
     @PatchMapping("/{notificationId}/read")
-    public ResponseEntity<Notification> markAsRead(@PathVariable Integer notificationId) {
+    public ResponseEntity<NotificationView> markAsRead(@PathVariable Integer notificationId) {
         Notification notification = notificationService.markAsRead(notificationId);
-        return ResponseEntity.ok(notification);
+        return ResponseEntity.ok(NotificationView.from(notification));
     }
     
     // Mark all as read
@@ -1,8 +1,9 @@
 package com.smarthub.controller;
 
 import com.smarthub.dto.ReviewRequest;
-import com.smarthub.entity.Review;
-import com.smarthub.repository.ReviewRepository;
+import com.smarthub.dto.ReviewView;
+import com.smarthub.service.ReviewService;
+import com.smarthub.service.ServiceProviderService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -15,28 +16,25 @@ import java.util.List;
 public class ReviewController {
     
     @Autowired
-    private ReviewRepository reviewRepository;
+    private ReviewService reviewService;
+    
+    @Autowired
+    private ServiceProviderService serviceProviderService;
     
     @PostMapping
-    public ResponseEntity<Review> addReview(@Valid @RequestBody ReviewRequest request) {
-        Review review = new Review();
-        review.setBookingId(request.getBookingId());
-        review.setUserId(request.getUserId());
-        review.setProviderId(request.getProviderId());
-        review.setRating(request.getRating());
-        review.setComment(request.getComment());
-        return ResponseEntity.ok(reviewRepository.save(review));
+    public ResponseEntity<ReviewView> addReview(@Valid @RequestBody ReviewRequest request) {
+        return ResponseEntity.ok(reviewService.addReview(request));
     }
     
     // ✅ Added: Get reviews by provider
     @GetMapping("/provider/{providerId}")
-    public ResponseEntity<List<Review>> getProviderReviews(@PathVariable Integer providerId) {
-        return ResponseEntity.ok(reviewRepository.findByProviderId(providerId));
+    public ResponseEntity<List<ReviewView>> getProviderReviews(@PathVariable Integer providerId) {
+        return ResponseEntity.ok(serviceProviderService.getProviderReviews(providerId));
     }
     
     // ✅ Added: Get reviews by user
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Review>> getUserReviews(@PathVariable Integer userId) {
-        return ResponseEntity.ok(reviewRepository.findByUserId(userId));
+    public ResponseEntity<List<ReviewView>> getUserReviews(@PathVariable Integer userId) {
+        return ResponseEntity.ok(reviewService.getUserReviews(userId));
     }
 }
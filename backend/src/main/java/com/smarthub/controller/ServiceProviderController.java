@@ -1,11 +1,17 @@
 package com.smarthub.controller;
 
+import com.smarthub.config.NegotiatedETags;
+import com.smarthub.dto.ProviderDashboardResponse;
+import com.smarthub.dto.ProviderView;
+import com.smarthub.dto.ReviewView;
 import com.smarthub.entity.ServiceProvider;
-import com.smarthub.entity.Review;
+import com.smarthub.service.ProviderDashboardService;
 import com.smarthub.service.ServiceProviderService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,30 +22,49 @@ public class ServiceProviderController {
     @Autowired
     private ServiceProviderService serviceProviderService;
     
+    @Autowired
+    private ProviderDashboardService providerDashboardService;
+    
     @GetMapping("/profile/{id}")
-    public ResponseEntity<ServiceProvider> getProfile(@PathVariable Integer id) {
-        return ResponseEntity.ok(serviceProviderService.getProfile(id));
+    public ResponseEntity<ProviderView> getProfile(@PathVariable Integer id) {
+        return ResponseEntity.ok(ProviderView.from(serviceProviderService.getProfile(id)));
     }
     
     @PutMapping("/profile/{id}")
-    public ResponseEntity<ServiceProvider> updateProfile(
+    public ResponseEntity<ProviderView> updateProfile(
         @PathVariable Integer id, 
         @RequestBody ServiceProvider provider
     ) {
-        return ResponseEntity.ok(serviceProviderService.updateProfile(id, provider));
+        return ResponseEntity.ok(ProviderView.from(serviceProviderService.updateProfile(id, provider)));
     }
     
+    // The ETag is the version of the whole provider table; unchanged results answer 304 without searching
     @GetMapping("/search")
-    public ResponseEntity<List<ServiceProvider>> searchProviders(
+    public ResponseEntity<List<ProviderView>> searchProviders(
         @RequestParam(required = false) String type,
-        @RequestParam(required = false) String location
+        @RequestParam(required = false) String location,
+        WebRequest request
     ) {
-        return ResponseEntity.ok(serviceProviderService.searchProviders(type, location));
+        String etag = NegotiatedETags.weakETag(serviceProviderService.getProvidersVersion(), request);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag)
+            .body(serviceProviderService.searchProviders(type, location));
     }
     
     // ✅ Single endpoint for provider reviews (removed duplicate)
     @GetMapping("/reviews/{providerId}")
-    public ResponseEntity<List<Review>> getProviderReviews(@PathVariable Integer providerId) {
+    public ResponseEntity<List<ReviewView>> getProviderReviews(@PathVariable Integer providerId) {
         return ResponseEntity.ok(serviceProviderService.getProviderReviews(providerId));
     }
+    
+    // Status counts, upcoming bookings, earnings, rating and unread count in one response
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<ProviderDashboardResponse> getDashboard(
+        @PathVariable Integer id,
+        @RequestParam(defaultValue = "7") int days
+    ) {
+        return ResponseEntity.ok(providerDashboardService.getDashboard(id, days));
+    }
 }
@@ -0,0 +1,44 @@
+package com.smarthub.controller;
+
+import com.smarthub.config.TokenAuthFilter;
+import com.smarthub.dto.SyncResponse;
+import com.smarthub.dto.TokenClaims;
+import com.smarthub.entity.Home;
+import com.smarthub.service.SyncService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+    
+    @Autowired
+    private SyncService syncService;
+    
+    // Bookings, notifications and reviews changed since the cursor of the previous call (all of them
+    // without one). The caller comes from the session token; until tokens are enforced, clients
+    // without one name themselves with userId or providerId like the other list endpoints.
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+        @RequestParam(required = false) String since,
+        @RequestParam(required = false) Integer userId,
+        @RequestParam(required = false) Integer providerId,
+        HttpServletRequest request
+    ) {
+        TokenClaims claims = (TokenClaims) request.getAttribute(TokenAuthFilter.CLAIMS_ATTRIBUTE);
+        SyncResponse response;
+        if (claims != null) {
+            response = syncService.sync(Home.Role.valueOf(claims.getRole()), claims.getId(), since);
+        } else if (userId != null) {
+            response = syncService.sync(Home.Role.USER, userId, since);
+        } else if (providerId != null) {
+            response = syncService.sync(Home.Role.SERVICE_PROVIDER, providerId, since);
+        } else {
+            throw new IllegalArgumentException("userId or providerId is required without a session token");
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(response);
+    }
+}
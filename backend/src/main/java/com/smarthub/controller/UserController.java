@@ -1,5 +1,6 @@
 package com.smarthub.controller;
 
+import com.smarthub.dto.UserView;
 import com.smarthub.entity.User;
 import com.smarthub.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,12 +16,12 @@ public class UserController {
     private UserService userService;
     
     @GetMapping("/profile/{id}")
-    public ResponseEntity<User> getProfile(@PathVariable Integer id) {
-        return ResponseEntity.ok(userService.getProfile(id));
+    public ResponseEntity<UserView> getProfile(@PathVariable Integer id) {
+        return ResponseEntity.ok(UserView.from(userService.getProfile(id)));
     }
     
     @PutMapping("/profile/{id}")
-    public ResponseEntity<User> updateProfile(@PathVariable Integer id, @RequestBody User user) {
-        return ResponseEntity.ok(userService.updateProfile(id, user));
+    public ResponseEntity<UserView> updateProfile(@PathVariable Integer id, @RequestBody User user) {
+        return ResponseEntity.ok(UserView.from(userService.updateProfile(id, user)));
     }
 }
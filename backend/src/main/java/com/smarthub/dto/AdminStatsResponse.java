@@ -0,0 +1,31 @@
+package com.smarthub.dto;
+
+import com.smarthub.entity.Booking;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class AdminStatsResponse {
+    private LocalDate from;
+    private LocalDate to;
+    
+    private Map<Booking.BookingStatus, Long> bookingsByStatus;
+    private List<StatusBucketCount> bookingsPerDay;
+    
+    // Hourly buckets for the last day of the range
+    private List<StatusBucketCount> bookingsPerHour;
+    
+    private List<ServiceTypeStat> revenueByServiceType;
+    private List<ProviderStat> topProviders;
+    
+    private Long totalBookings;
+    private BigDecimal totalRevenue;
+    private Long totalComplaints;
+    
+    // Complaints per booking over the range
+    private Double complaintRate;
+}
@@ -0,0 +1,35 @@
+package com.smarthub.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+public class AdminTableFilter {
+    
+    // Opaque keyset cursor returned as nextCursor by the previous page
+    private String cursor;
+    
+    private Integer size;
+    
+    // id, createdAt (or bookingDate for bookings)
+    private String sort;
+    
+    // asc or desc
+    private String direction;
+    
+    private String status;
+    
+    private String serviceType;
+    
+    // Inclusive date range on createdAt (bookingDate for bookings)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    
+    // Free-text match on names, contact details or messages
+    private String q;
+}
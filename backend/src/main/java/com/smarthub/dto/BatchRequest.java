@@ -0,0 +1,10 @@
+package com.smarthub.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchRequest {
+    private List<BatchSubRequest> requests;
+}
@@ -0,0 +1,15 @@
+package com.smarthub.dto;
+
+import lombok.Data;
+
+@Data
+public class BatchSubRequest {
+    // Client-chosen key echoed back in the matching response
+    private String id;
+    
+    // Only GET is supported; defaults to GET when omitted
+    private String method;
+    
+    // Path of an existing GET route, optionally with a query string, e.g. /api/provider/7/dashboard?days=14
+    private String path;
+}
@@ -0,0 +1,15 @@
+package com.smarthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchSubResponse {
+    private String id;
+    private String path;
+    private int status;
+    private Object body;
+}
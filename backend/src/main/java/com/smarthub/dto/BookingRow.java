@@ -0,0 +1,24 @@
+package com.smarthub.dto;
+
+import com.smarthub.entity.Booking;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingRow {
+    private Integer bookingId;
+    private Integer userId;
+    private Integer providerId;
+    private String serviceType;
+    private LocalDate bookingDate;
+    private LocalTime bookingTime;
+    private Booking.BookingStatus status;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,30 @@
+package com.smarthub.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.smarthub.config.FieldsFilterAdvice;
+import com.smarthub.entity.Booking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// API shape of a booking; list queries select exactly these columns
+@JsonFilter(FieldsFilterAdvice.FILTER_ID)
+public record BookingView(
+    Integer bookingId,
+    Integer userId,
+    Integer providerId,
+    String serviceType,
+    LocalDate bookingDate,
+    LocalTime bookingTime,
+    Booking.BookingStatus status,
+    LocalDateTime createdAt,
+    // Change stamp, the unit of the /api/sync cursor
+    LocalDateTime updatedAt
+) {
+    public static BookingView from(Booking booking) {
+        return new BookingView(booking.getBookingId(), booking.getUserId(), booking.getProviderId(),
+            booking.getServiceType(), booking.getBookingDate(), booking.getBookingTime(), booking.getStatus(),
+            booking.getCreatedAt(), booking.getUpdatedAt());
+    }
+}
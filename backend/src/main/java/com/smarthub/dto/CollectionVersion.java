@@ -0,0 +1,30 @@
+package com.smarthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Row count and newest updated_at of a list; any insert, update or delete changes one of them
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionVersion {
+    private Long count;
+    private LocalDateTime lastModified;
+    
+    // format names the negotiated body encoding (json, cbor, smile); each has its own bytes.
+    // updated_at is DATETIME(6), so the stamp keeps microseconds: two changes within one
+    // millisecond that leave the count equal still give different tags.
+    public String toWeakETag(String format) {
+        long micros = 0;
+        if (lastModified != null) {
+            Instant instant = lastModified.toInstant(ZoneOffset.UTC);
+            micros = instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+        }
+        return "W/\"" + count + "-" + Long.toHexString(micros) + "-" + format + "\"";
+    }
+}
@@ -0,0 +1,21 @@
+package com.smarthub.dto;
+
+import com.smarthub.entity.Complaint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintRow {
+    private Integer complaintId;
+    private Integer userId;
+    private Integer providerId;
+    private String message;
+    private Complaint.ComplaintStatus status;
+    private String response;
+    private LocalDateTime createdAt;
+}
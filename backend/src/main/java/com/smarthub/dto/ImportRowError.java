@@ -0,0 +1,15 @@
+package com.smarthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+    // Line in the uploaded file; the header is line 1
+    private int line;
+    private String mobile;
+    private String message;
+}
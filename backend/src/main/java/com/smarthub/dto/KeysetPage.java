@@ -0,0 +1,20 @@
+package com.smarthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class KeysetPage<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+    
+    // Only computed for the first page; null afterwards
+    private Long estimatedTotal;
+    
+    // True when estimatedTotal is a lower bound (count stopped at the cap) or a table statistic
+    private boolean totalApproximate;
+}
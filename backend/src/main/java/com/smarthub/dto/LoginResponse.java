@@ -13,4 +13,12 @@ public class LoginResponse {
     private String fullName;
     private String email;
     private String mobile;
+    
+    // Signed session token; send back as "Authorization: Bearer <token>"
+    private String token;
+    
+    public LoginResponse(String message, String role, String redirectUrl, Integer id,
+                         String fullName, String email, String mobile) {
+        this(message, role, redirectUrl, id, fullName, email, mobile, null);
+    }
 }
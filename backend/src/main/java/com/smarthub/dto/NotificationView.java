@@ -0,0 +1,28 @@
+package com.smarthub.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.smarthub.config.FieldsFilterAdvice;
+import com.smarthub.entity.Notification;
+
+import java.time.LocalDateTime;
+
+// API shape of a notification; list queries select exactly these columns
+@JsonFilter(FieldsFilterAdvice.FILTER_ID)
+public record NotificationView(
+    Integer notificationId,
+    Integer receiverId,
+    String receiverType,
+    String message,
+    String type,
+    String status,
+    Integer relatedBookingId,
+    LocalDateTime createdAt,
+    // Change stamp, the unit of the /api/sync cursor
+    LocalDateTime updatedAt
+) {
+    public static NotificationView from(Notification notification) {
+        return new NotificationView(notification.getNotificationId(), notification.getReceiverId(),
+            notification.getReceiverType(), notification.getMessage(), notification.getType(),
+            notification.getStatus(), notification.getRelatedBookingId(), notification.getCreatedAt(), notification.getUpdatedAt());
+    }
+}
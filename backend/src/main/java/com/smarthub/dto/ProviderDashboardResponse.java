@@ -0,0 +1,28 @@
+package com.smarthub.dto;
+
+import com.smarthub.entity.Booking;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class ProviderDashboardResponse {
+    private Integer providerId;
+    
+    private Map<Booking.BookingStatus, Long> bookingsByStatus;
+    private Long totalBookings;
+    
+    // Active bookings scheduled from today through the next upcomingDays days
+    private Integer upcomingDays;
+    private List<BookingView> upcomingBookings;
+    
+    // COMPLETED/PAID bookings x current provider price
+    private BigDecimal earnings;
+    
+    private Double averageRating;
+    private Long reviewCount;
+    
+    private Long unreadNotifications;
+}
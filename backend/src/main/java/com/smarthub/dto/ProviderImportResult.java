@@ -0,0 +1,19 @@
+package com.smarthub.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ProviderImportResult {
+    private int totalRows;
+    private int imported;
+    private int failed;
+    
+    // At most the first 1000 failures; errorsTruncated is set when more were dropped
+    private List<ImportRowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    
+    private long elapsedMs;
+}
@@ -0,0 +1,23 @@
+package com.smarthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderRow {
+    private Integer providerId;
+    private String fullName;
+    private String email;
+    private String mobile;
+    private String serviceType;
+    private Integer experience;
+    private BigDecimal price;
+    private String location;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.smarthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderStat {
+    private Integer providerId;
+    private Long bookings;
+    private BigDecimal revenue;
+    private Long complaints;
+    
+    public ProviderStat(Integer providerId, Long bookings, BigDecimal revenue) {
+        this(providerId, bookings, revenue, 0L);
+    }
+}
@@ -0,0 +1,27 @@
+package com.smarthub.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.smarthub.config.FieldsFilterAdvice;
+import com.smarthub.entity.ServiceProvider;
+
+import java.math.BigDecimal;
+
+// Public API shape of a service provider (no home link or audit columns)
+@JsonFilter(FieldsFilterAdvice.FILTER_ID)
+public record ProviderView(
+    Integer providerId,
+    String fullName,
+    String email,
+    String mobile,
+    String serviceType,
+    Integer experience,
+    BigDecimal price,
+    String availability,
+    String location
+) {
+    public static ProviderView from(ServiceProvider provider) {
+        return new ProviderView(provider.getProviderId(), provider.getFullName(), provider.getEmail(),
+            provider.getMobile(), provider.getServiceType(), provider.getExperience(), provider.getPrice(),
+            provider.getAvailability(), provider.getLocation());
+    }
+}
@@ -0,0 +1,26 @@
+package com.smarthub.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.smarthub.config.FieldsFilterAdvice;
+import com.smarthub.entity.Review;
+
+import java.time.LocalDateTime;
+
+// API shape of a review; list queries select exactly these columns
+@JsonFilter(FieldsFilterAdvice.FILTER_ID)
+public record ReviewView(
+    Integer reviewId,
+    Integer bookingId,
+    Integer userId,
+    Integer providerId,
+    Integer rating,
+    String comment,
+    LocalDateTime createdAt,
+    // Change stamp, the unit of the /api/sync cursor
+    LocalDateTime updatedAt
+) {
+    public static ReviewView from(Review review) {
+        return new ReviewView(review.getReviewId(), review.getBookingId(), review.getUserId(),
+            review.getProviderId(), review.getRating(), review.getComment(), review.getCreatedAt(), review.getUpdatedAt());
+    }
+}
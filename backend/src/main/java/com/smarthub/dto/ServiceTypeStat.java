@@ -0,0 +1,16 @@
+package com.smarthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceTypeStat {
+    private String serviceType;
+    private Long bookings;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,17 @@
+package com.smarthub.dto;
+
+import com.smarthub.entity.Booking;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusBucketCount {
+    private LocalDateTime bucketStart;
+    private Booking.BookingStatus status;
+    private Long count;
+}
@@ -0,0 +1,20 @@
+package com.smarthub.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SyncResponse {
+    // Opaque; pass back as ?since= on the next call
+    private String cursor;
+    
+    // A list was cut at sync.max-rows; call again right away with the new cursor
+    private boolean hasMore;
+    
+    // Rows created or changed since the previous cursor. Rows near a cursor boundary can be sent
+    // twice, so clients upsert by id.
+    private List<BookingView> bookings;
+    private List<NotificationView> notifications;
+    private List<ReviewView> reviews;
+}
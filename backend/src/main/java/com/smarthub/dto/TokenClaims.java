@@ -0,0 +1,19 @@
+package com.smarthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenClaims {
+    // Home.Role name: USER, SERVICE_PROVIDER or ADMIN
+    private String role;
+    
+    // userId, providerId or adminId depending on role
+    private Integer id;
+    
+    // Epoch seconds
+    private long expiresAt;
+}
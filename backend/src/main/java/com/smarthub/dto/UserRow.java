@@ -0,0 +1,19 @@
+package com.smarthub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRow {
+    private Integer userId;
+    private String fullName;
+    private String email;
+    private String mobile;
+    private String location;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.smarthub.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.smarthub.config.FieldsFilterAdvice;
+import com.smarthub.entity.User;
+
+// Public API shape of a user profile (no home link or audit columns)
+@JsonFilter(FieldsFilterAdvice.FILTER_ID)
+public record UserView(
+    Integer userId,
+    String fullName,
+    String email,
+    String mobile,
+    String location
+) {
+    public static UserView from(User user) {
+        return new UserView(user.getUserId(), user.getFullName(), user.getEmail(), user.getMobile(), user.getLocation());
+    }
+}
@@ -1,38 +1,24 @@
 package com.smarthub.entity;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
-
-import java.time.LocalDateTime;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
+// Role row of an ADMIN account; admin_id is the home id
 @Entity
 @Table(name = "admin")
+@PrimaryKeyJoinColumn(name = "admin_id")
 @Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class Admin {
-    
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "admin_id")
-    private Integer adminId;
-    
-    @Column(name = "home_id", nullable = false)
-    private Integer homeId;
-    
-    @Column(name = "full_name", length = 100, nullable = false)
-    private String fullName;
-    
-    @Column(name = "email", length = 100)
-    private String email;
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class Admin extends Home {
     
-    @Column(name = "mobile", length = 15, nullable = false)
-    private String mobile;
+    public Admin() {
+        super(Role.ADMIN);
+    }
     
-    @CreationTimestamp
-    @Column(name = "created_at", updatable = false)
-    private LocalDateTime createdAt;
+    public Integer getAdminId() {
+        return getId();
+    }
 }
@@ -1,24 +1,34 @@
 package com.smarthub.entity;
 
+import com.smarthub.config.PooledTableIdGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.TableGenerator;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "booking")
+@Table(name = "booking", indexes = {
+    @Index(name = "idx_booking_user_updated", columnList = "user_id, updated_at"),
+    @Index(name = "idx_booking_provider_updated", columnList = "provider_id, updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Booking {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "booking_id")
+    @GenericGenerator(name = "booking_id", type = PooledTableIdGenerator.class,
+        parameters = @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "booking"))
     @Column(name = "booking_id")
     private Integer bookingId;
     
@@ -45,6 +55,11 @@ public class Booking {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
+    // Bumped on every change; backs the ETag of the lists this row appears in
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     // Booking status enum
     public enum BookingStatus {
         PENDING,
@@ -0,0 +1,58 @@
+package com.smarthub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Pre-aggregated booking counts per time bucket, kept up to date by StatsRollupService
+@Entity
+@Table(
+    name = "booking_stat",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_booking_stat_bucket",
+        columnNames = {"bucket_type", "bucket_start", "status", "service_type", "provider_id"}
+    )
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingStat {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stat_id")
+    private Long statId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bucket_type", nullable = false, length = 10)
+    private BucketType bucketType;
+    
+    // Start of the hour/day the bookings were created in
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Booking.BookingStatus status;
+    
+    @Column(name = "service_type", length = 100, nullable = false)
+    private String serviceType;
+    
+    @Column(name = "provider_id", nullable = false)
+    private Integer providerId;
+    
+    @Column(name = "booking_count", nullable = false)
+    private Long bookingCount;
+    
+    // Sum of provider price for bookings currently in this status (only COMPLETED/PAID earn)
+    @Column(name = "revenue", precision = 14, scale = 2, nullable = false)
+    private BigDecimal revenue;
+    
+    public enum BucketType {
+        HOUR, DAY
+    }
+}
@@ -0,0 +1,34 @@
+package com.smarthub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Complaints raised per day and provider (provider_id 0 = not tied to a provider)
+@Entity
+@Table(
+    name = "complaint_stat",
+    uniqueConstraints = @UniqueConstraint(name = "uk_complaint_stat_bucket", columnNames = {"bucket_day", "provider_id"})
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintStat {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stat_id")
+    private Long statId;
+    
+    @Column(name = "bucket_day", nullable = false)
+    private LocalDate bucketDay;
+    
+    @Column(name = "provider_id", nullable = false)
+    private Integer providerId;
+    
+    @Column(name = "complaint_count", nullable = false)
+    private Long complaintCount;
+}
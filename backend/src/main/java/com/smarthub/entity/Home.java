@@ -1,19 +1,36 @@
 package com.smarthub.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
+/**
+ * The account: identity, credentials and contact details for every role.
+ *
+ * Role data lives in the user, service_provider and admin tables, whose rows share this row's
+ * primary key (joined inheritance). The account id is therefore also the user, provider or admin
+ * id, and a login resolves it from one indexed lookup on mobile. Subclasses are cached in this
+ * entity's second-level cache region.
+ */
 @Entity
-@Table(name = "home")
+@Inheritance(strategy = InheritanceType.JOINED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "home", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_home_mobile", columnNames = "mobile"),
+    @UniqueConstraint(name = "uk_home_email", columnNames = "email")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Home {
+public abstract class Home {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,23 +40,29 @@ public class Home {
     @Column(name = "full_name", length = 100, nullable = false)
     private String fullName;
     
-    @Column(name = "email", unique = true, length = 100)
+    @Column(name = "email", length = 100)
     private String email;
     
-    @Column(name = "mobile", unique = true, length = 15, nullable = false)
+    @Column(name = "mobile", length = 15, nullable = false)
     private String mobile;
     
+    // Role entities are exported as they are, so the hash must never reach the JSON
+    @JsonIgnore
     @Column(name = "password", nullable = false, length = 255)
     private String password;
     
     @Enumerated(EnumType.STRING)
-    @Column(name = "role", nullable = false, length = 20)
+    @Column(name = "role", nullable = false, length = 20, updatable = false)
     private Role role;
     
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
+    protected Home(Role role) {
+        this.role = role;
+    }
+    
     public enum Role {
         USER, SERVICE_PROVIDER, ADMIN
     }
@@ -1,22 +1,31 @@
 package com.smarthub.entity;
 
+import com.smarthub.config.PooledTableIdGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.TableGenerator;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+    @Index(name = "idx_notifications_receiver_updated", columnList = "receiver_id, updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Notification {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "notifications_id")
+    @GenericGenerator(name = "notifications_id", type = PooledTableIdGenerator.class,
+        parameters = @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "notifications"))
     @Column(name = "notification_id")
     private Integer notificationId;
     
@@ -41,4 +50,9 @@ public class Notification {
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+    
+    // Bumped on every change; backs the ETag of the lists this row appears in
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
 }
@@ -1,22 +1,32 @@
 package com.smarthub.entity;
 
+import com.smarthub.config.PooledTableIdGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.TableGenerator;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+    @Index(name = "idx_review_user_updated", columnList = "user_id, updated_at"),
+    @Index(name = "idx_review_provider_updated", columnList = "provider_id, updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Review {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "review_id")
+    @GenericGenerator(name = "review_id", type = PooledTableIdGenerator.class,
+        parameters = @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "review"))
     @Column(name = "review_id")
     private Integer reviewId;
     
@@ -38,4 +48,9 @@ public class Review {
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+    
+    // Bumped on every change; drives delta sync
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
 }
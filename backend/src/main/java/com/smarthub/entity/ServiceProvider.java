@@ -1,37 +1,24 @@
 package com.smarthub.entity;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+// Role row of a SERVICE_PROVIDER account; provider_id is the home id
 @Entity
-@Table(name = "service_provider")
+@Table(name = "service_provider", indexes = {
+    @Index(name = "idx_service_provider_updated", columnList = "updated_at")
+})
+@PrimaryKeyJoinColumn(name = "provider_id")
 @Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class ServiceProvider {
-    
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "provider_id")
-    private Integer providerId;
-    
-    @Column(name = "home_id", nullable = false)
-    private Integer homeId;
-    
-    @Column(name = "full_name", length = 100, nullable = false)
-    private String fullName;
-    
-    @Column(name = "email", length = 100)
-    private String email;
-    
-    @Column(name = "mobile", length = 15, nullable = false)
-    private String mobile;
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ServiceProvider extends Home {
     
     @Column(name = "service_type", length = 100)
     private String serviceType;
@@ -48,7 +35,16 @@ public class ServiceProvider {
     @Column(name = "location", length = 255)
     private String location;
     
-    @CreationTimestamp
-    @Column(name = "created_at", updatable = false)
-    private LocalDateTime createdAt;
+    // Bumped on every change; backs the ETag of the lists this row appears in
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public ServiceProvider() {
+        super(Role.SERVICE_PROVIDER);
+    }
+    
+    public Integer getProviderId() {
+        return getId();
+    }
 }
@@ -1,41 +1,27 @@
 package com.smarthub.entity;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
-
-import java.time.LocalDateTime;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
+// Role row of a USER account; user_id is the home id
 @Entity
 @Table(name = "user")
+@PrimaryKeyJoinColumn(name = "user_id")
 @Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class User {
-    
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "user_id")
-    private Integer userId;
-    
-    @Column(name = "home_id", nullable = false)
-    private Integer homeId;
-    
-    @Column(name = "full_name", length = 100, nullable = false)
-    private String fullName;
-    
-    @Column(name = "email", length = 100)
-    private String email;
-    
-    @Column(name = "mobile", length = 15, nullable = false)
-    private String mobile;
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class User extends Home {
     
     @Column(name = "location", length = 255)
     private String location;
     
-    @CreationTimestamp
-    @Column(name = "created_at", updatable = false)
-    private LocalDateTime createdAt;
+    public User() {
+        super(Role.USER);
+    }
+    
+    public Integer getUserId() {
+        return getId();
+    }
 }
@@ -0,0 +1,7 @@
+package com.smarthub.exception;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
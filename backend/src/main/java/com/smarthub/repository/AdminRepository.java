@@ -4,9 +4,6 @@ import com.smarthub.entity.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
 public interface AdminRepository extends JpaRepository<Admin, Integer> {
-    Optional<Admin> findByHomeId(Integer homeId);
 }
@@ -1,13 +1,82 @@
 package com.smarthub.repository;
 
+import com.smarthub.dto.BookingView;
+import com.smarthub.dto.CollectionVersion;
 import com.smarthub.entity.Booking;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Integer> {
     List<Booking> findByUserId(Integer userId);
     List<Booking> findByProviderId(Integer providerId);
+    
+    // SELECT ... FOR UPDATE: concurrent status changes of one booking run one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Booking b where b.bookingId = :bookingId")
+    Optional<Booking> findByIdForUpdate(@Param("bookingId") Integer bookingId);
+    
+    // List projections: only the columns of the API view are selected, no entities are managed
+    @Query("select new com.smarthub.dto.BookingView(b.bookingId, b.userId, b.providerId, b.serviceType, b.bookingDate, b.bookingTime, b.status, b.createdAt, b.updatedAt) from Booking b where b.userId = :userId")
+    List<BookingView> findViewsByUserId(@Param("userId") Integer userId);
+    
+    @Query("select new com.smarthub.dto.BookingView(b.bookingId, b.userId, b.providerId, b.serviceType, b.bookingDate, b.bookingTime, b.status, b.createdAt, b.updatedAt) from Booking b where b.providerId = :providerId")
+    List<BookingView> findViewsByProviderId(@Param("providerId") Integer providerId);
+    
+    @Query("select new com.smarthub.dto.BookingView(b.bookingId, b.userId, b.providerId, b.serviceType, b.bookingDate, b.bookingTime, b.status, b.createdAt, b.updatedAt) from Booking b")
+    List<BookingView> findAllViews();
+    
+    // Delta sync: rows after the (updatedAt, id) position :since/:afterId, oldest change first.
+    // The updatedAt >= :since bound gives a range on the (owner, updated_at) index; the id breaks ties.
+    @Query("select new com.smarthub.dto.BookingView(b.bookingId, b.userId, b.providerId, b.serviceType, b.bookingDate, b.bookingTime, b.status, b.createdAt, b.updatedAt) from Booking b where b.userId = :userId " +
+           "and b.updatedAt >= :since and (b.updatedAt > :since or b.bookingId > :afterId) order by b.updatedAt, b.bookingId")
+    List<BookingView> findViewsByUserIdChangedSince(@Param("userId") Integer userId,
+                                                    @Param("since") LocalDateTime since,
+                                                    @Param("afterId") Integer afterId, Pageable pageable);
+    
+    @Query("select new com.smarthub.dto.BookingView(b.bookingId, b.userId, b.providerId, b.serviceType, b.bookingDate, b.bookingTime, b.status, b.createdAt, b.updatedAt) from Booking b where b.providerId = :providerId " +
+           "and b.updatedAt >= :since and (b.updatedAt > :since or b.bookingId > :afterId) order by b.updatedAt, b.bookingId")
+    List<BookingView> findViewsByProviderIdChangedSince(@Param("providerId") Integer providerId,
+                                                        @Param("since") LocalDateTime since,
+                                                        @Param("afterId") Integer afterId, Pageable pageable);
+    
+    // ETag versions, answered from the (user_id|provider_id, updated_at) indexes without loading rows
+    @Query("select new com.smarthub.dto.CollectionVersion(count(b), max(b.updatedAt)) from Booking b where b.userId = :userId")
+    CollectionVersion versionByUserId(@Param("userId") Integer userId);
+    
+    @Query("select new com.smarthub.dto.CollectionVersion(count(b), max(b.updatedAt)) from Booking b where b.providerId = :providerId")
+    CollectionVersion versionByProviderId(@Param("providerId") Integer providerId);
+    
+    @Query("select b.status, count(b) from Booking b where b.providerId = :providerId group by b.status")
+    List<Object[]> countByStatusForProvider(@Param("providerId") Integer providerId);
+    
+    @Query("select new com.smarthub.dto.BookingView(b.bookingId, b.userId, b.providerId, b.serviceType, b.bookingDate, b.bookingTime, b.status, b.createdAt, b.updatedAt) from Booking b where b.providerId = :providerId " +
+           "and b.status in :statuses and b.bookingDate between :from and :to order by b.bookingDate, b.bookingTime")
+    List<BookingView> findUpcomingViewsByProviderId(@Param("providerId") Integer providerId,
+                                                    @Param("statuses") Collection<Booking.BookingStatus> statuses,
+                                                    @Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select b from Booking b order by b.bookingId")
+    Stream<Booking> streamAll();
 }
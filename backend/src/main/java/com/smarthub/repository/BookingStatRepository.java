@@ -0,0 +1,90 @@
+package com.smarthub.repository;
+
+import com.smarthub.dto.ProviderStat;
+import com.smarthub.dto.ServiceTypeStat;
+import com.smarthub.dto.StatusBucketCount;
+import com.smarthub.entity.BookingStat;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BookingStatRepository extends JpaRepository<BookingStat, Long> {
+    
+    // Atomic increment of a single bucket; creates the row on first use
+    // Declares the only table touched; otherwise Hibernate clears the whole second-level cache on native DML
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_stat"))
+    @Query(value = "INSERT INTO booking_stat (bucket_type, bucket_start, status, service_type, provider_id, booking_count, revenue) " +
+                   "VALUES (:bucketType, :bucketStart, :status, :serviceType, :providerId, :countDelta, :revenueDelta) " +
+                   "ON DUPLICATE KEY UPDATE booking_count = booking_count + VALUES(booking_count), " +
+                   "revenue = revenue + VALUES(revenue)",
+           nativeQuery = true)
+    int increment(@Param("bucketType") String bucketType,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("status") String status,
+                  @Param("serviceType") String serviceType,
+                  @Param("providerId") Integer providerId,
+                  @Param("countDelta") long countDelta,
+                  @Param("revenueDelta") BigDecimal revenueDelta);
+    
+    // Rebuild: every bucket of one type aggregated by the database in a single pass over booking.
+    // Bookings without created_at count as created at :now; revenue is the provider price of
+    // COMPLETED and PAID bookings. The table must be empty (see StatsRollupService.rebuild).
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_stat"))
+    @Query(value = "INSERT INTO booking_stat (bucket_type, bucket_start, status, service_type, provider_id, booking_count, revenue) " +
+                   "SELECT 'HOUR', TIMESTAMPADD(HOUR, HOUR(COALESCE(b.created_at, :now)), DATE(COALESCE(b.created_at, :now))), b.status, b.service_type, b.provider_id, " +
+                   "COUNT(*), SUM(CASE WHEN b.status IN ('COMPLETED', 'PAID') THEN COALESCE(p.price, 0) ELSE 0 END) " +
+                   "FROM booking b LEFT JOIN service_provider p ON p.provider_id = b.provider_id " +
+                   "GROUP BY TIMESTAMPADD(HOUR, HOUR(COALESCE(b.created_at, :now)), DATE(COALESCE(b.created_at, :now))), b.status, b.service_type, b.provider_id",
+           nativeQuery = true)
+    int insertHourBuckets(@Param("now") LocalDateTime now);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_stat"))
+    @Query(value = "INSERT INTO booking_stat (bucket_type, bucket_start, status, service_type, provider_id, booking_count, revenue) " +
+                   "SELECT 'DAY', DATE(COALESCE(b.created_at, :now)), b.status, b.service_type, b.provider_id, " +
+                   "COUNT(*), SUM(CASE WHEN b.status IN ('COMPLETED', 'PAID') THEN COALESCE(p.price, 0) ELSE 0 END) " +
+                   "FROM booking b LEFT JOIN service_provider p ON p.provider_id = b.provider_id " +
+                   "GROUP BY DATE(COALESCE(b.created_at, :now)), b.status, b.service_type, b.provider_id",
+           nativeQuery = true)
+    int insertDayBuckets(@Param("now") LocalDateTime now);
+    
+    @Query("select coalesce(sum(s.bookingCount), 0) from BookingStat s where s.bucketType = :bucketType")
+    Long totalCount(@Param("bucketType") BookingStat.BucketType bucketType);
+    
+    @Query("select new com.smarthub.dto.StatusBucketCount(s.bucketStart, s.status, sum(s.bookingCount)) " +
+           "from BookingStat s where s.bucketType = :bucketType and s.bucketStart >= :from and s.bucketStart < :to " +
+           "group by s.bucketStart, s.status having sum(s.bookingCount) <> 0 order by s.bucketStart")
+    List<StatusBucketCount> countByBucketAndStatus(@Param("bucketType") BookingStat.BucketType bucketType,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to);
+    
+    @Query("select new com.smarthub.dto.ServiceTypeStat(s.serviceType, sum(s.bookingCount), sum(s.revenue)) " +
+           "from BookingStat s where s.bucketType = :bucketType " +
+           "and s.bucketStart >= :from and s.bucketStart < :to " +
+           "group by s.serviceType order by sum(s.revenue) desc")
+    List<ServiceTypeStat> revenueByServiceType(@Param("bucketType") BookingStat.BucketType bucketType,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
+    
+    @Query("select new com.smarthub.dto.ProviderStat(s.providerId, sum(s.bookingCount), sum(s.revenue)) " +
+           "from BookingStat s where s.bucketType = :bucketType " +
+           "and s.bucketStart >= :from and s.bucketStart < :to " +
+           "group by s.providerId order by sum(s.bookingCount) desc")
+    List<ProviderStat> topProviders(@Param("bucketType") BookingStat.BucketType bucketType,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    Pageable pageable);
+}
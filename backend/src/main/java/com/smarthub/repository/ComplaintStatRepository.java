@@ -0,0 +1,54 @@
+package com.smarthub.repository;
+
+import com.smarthub.entity.ComplaintStat;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ComplaintStatRepository extends JpaRepository<ComplaintStat, Long> {
+    
+    // Declares the only table touched; otherwise Hibernate clears the whole second-level cache on native DML
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "complaint_stat"))
+    @Query(value = "INSERT INTO complaint_stat (bucket_day, provider_id, complaint_count) " +
+                   "VALUES (:bucketDay, :providerId, :countDelta) " +
+                   "ON DUPLICATE KEY UPDATE complaint_count = complaint_count + VALUES(complaint_count)",
+           nativeQuery = true)
+    int increment(@Param("bucketDay") LocalDate bucketDay,
+                  @Param("providerId") Integer providerId,
+                  @Param("countDelta") long countDelta);
+    
+    // Rebuild counterpart of increment; complaints without a provider go to provider 0
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "complaint_stat"))
+    @Query(value = "INSERT INTO complaint_stat (bucket_day, provider_id, complaint_count) " +
+                   "SELECT DATE(COALESCE(c.created_at, :now)), COALESCE(c.provider_id, 0), COUNT(*) FROM complaint c " +
+                   "GROUP BY DATE(COALESCE(c.created_at, :now)), COALESCE(c.provider_id, 0)",
+           nativeQuery = true)
+    int insertDayBuckets(@Param("now") LocalDateTime now);
+    
+    @Query("select coalesce(sum(s.complaintCount), 0) from ComplaintStat s")
+    Long totalCount();
+    
+    @Query("select coalesce(sum(s.complaintCount), 0) from ComplaintStat s " +
+           "where s.bucketDay >= :from and s.bucketDay <= :to")
+    Long totalBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    @Query("select s.providerId, sum(s.complaintCount) from ComplaintStat s " +
+           "where s.bucketDay >= :from and s.bucketDay <= :to and s.providerId in :providerIds " +
+           "group by s.providerId")
+    List<Object[]> countByProvider(@Param("from") LocalDate from,
+                                   @Param("to") LocalDate to,
+                                   @Param("providerIds") Collection<Integer> providerIds);
+}
@@ -1,16 +1,31 @@
 package com.smarthub.repository;
 
 import com.smarthub.entity.Home;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public interface HomeRepository extends JpaRepository<Home, Integer> {
-    Optional<Home> findByMobileAndPasswordAndRole(String mobile, String password, Home.Role role);
+    // Login lookup, served from the query cache until the table changes
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Home> findByMobileAndRole(String mobile, Home.Role role);
     Optional<Home> findByMobile(String mobile);
     Optional<Home> findByEmail(String email);
     boolean existsByMobile(String mobile);
     boolean existsByEmail(String email);
+    
+    // Called by login after the password check, in a short write transaction of its own
+    @Modifying
+    @Transactional
+    @Query("update Home h set h.password = :password where h.id = :id")
+    int updatePassword(@Param("id") Integer id, @Param("password") String password);
 }
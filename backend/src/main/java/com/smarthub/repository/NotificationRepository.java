@@ -1,9 +1,15 @@
 package com.smarthub.repository;
 
+import com.smarthub.dto.CollectionVersion;
+import com.smarthub.dto.NotificationView;
 import com.smarthub.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -11,4 +17,23 @@ public interface NotificationRepository extends JpaRepository<Notification, Inte
     List<Notification> findByReceiverIdOrderByCreatedAtDesc(Integer receiverId);
     List<Notification> findByReceiverIdAndStatusOrderByCreatedAtDesc(Integer receiverId, String status);
     Long countByReceiverIdAndStatus(Integer receiverId, String status);
+    
+    @Query("select new com.smarthub.dto.NotificationView(n.notificationId, n.receiverId, n.receiverType, n.message, n.type, n.status, n.relatedBookingId, n.createdAt, n.updatedAt) from Notification n where n.receiverId = :receiverId order by n.createdAt desc")
+    List<NotificationView> findViewsByReceiverId(@Param("receiverId") Integer receiverId);
+    
+    @Query("select new com.smarthub.dto.NotificationView(n.notificationId, n.receiverId, n.receiverType, n.message, n.type, n.status, n.relatedBookingId, n.createdAt, n.updatedAt) from Notification n where n.receiverId = :receiverId and n.status = :status order by n.createdAt desc")
+    List<NotificationView> findViewsByReceiverIdAndStatus(@Param("receiverId") Integer receiverId, @Param("status") String status);
+    
+    // Delta sync: rows after the (updatedAt, id) position :since/:afterId, oldest change first.
+    // The updatedAt >= :since bound gives a range on the (owner, updated_at) index; the id breaks ties.
+    @Query("select new com.smarthub.dto.NotificationView(n.notificationId, n.receiverId, n.receiverType, n.message, n.type, n.status, n.relatedBookingId, n.createdAt, n.updatedAt) from Notification n where n.receiverId = :receiverId and n.receiverType = :receiverType " +
+           "and n.updatedAt >= :since and (n.updatedAt > :since or n.notificationId > :afterId) order by n.updatedAt, n.notificationId")
+    List<NotificationView> findViewsChangedSince(@Param("receiverId") Integer receiverId,
+                                                 @Param("receiverType") String receiverType,
+                                                 @Param("since") LocalDateTime since,
+                                                 @Param("afterId") Integer afterId, Pageable pageable);
+    
+    // Answered from the (receiver_id, updated_at) index without loading rows
+    @Query("select new com.smarthub.dto.CollectionVersion(count(n), max(n.updatedAt)) from Notification n where n.receiverId = :receiverId")
+    CollectionVersion versionByReceiverId(@Param("receiverId") Integer receiverId);
 }
@@ -1,13 +1,42 @@
 package com.smarthub.repository;
 
+import com.smarthub.dto.RatingSummary;
+import com.smarthub.dto.ReviewView;
 import com.smarthub.entity.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Integer> {
     List<Review> findByProviderId(Integer providerId);
     List<Review> findByUserId(Integer userId);
+    
+    @Query("select new com.smarthub.dto.ReviewView(r.reviewId, r.bookingId, r.userId, r.providerId, r.rating, r.comment, r.createdAt, r.updatedAt) from Review r where r.providerId = :providerId")
+    List<ReviewView> findViewsByProviderId(@Param("providerId") Integer providerId);
+    
+    @Query("select new com.smarthub.dto.ReviewView(r.reviewId, r.bookingId, r.userId, r.providerId, r.rating, r.comment, r.createdAt, r.updatedAt) from Review r where r.userId = :userId")
+    List<ReviewView> findViewsByUserId(@Param("userId") Integer userId);
+    
+    // Delta sync: rows after the (updatedAt, id) position :since/:afterId, oldest change first.
+    // The updatedAt >= :since bound gives a range on the (owner, updated_at) index; the id breaks ties.
+    @Query("select new com.smarthub.dto.ReviewView(r.reviewId, r.bookingId, r.userId, r.providerId, r.rating, r.comment, r.createdAt, r.updatedAt) from Review r where r.userId = :userId " +
+           "and r.updatedAt >= :since and (r.updatedAt > :since or r.reviewId > :afterId) order by r.updatedAt, r.reviewId")
+    List<ReviewView> findViewsByUserIdChangedSince(@Param("userId") Integer userId,
+                                                   @Param("since") LocalDateTime since,
+                                                   @Param("afterId") Integer afterId, Pageable pageable);
+    
+    @Query("select new com.smarthub.dto.ReviewView(r.reviewId, r.bookingId, r.userId, r.providerId, r.rating, r.comment, r.createdAt, r.updatedAt) from Review r where r.providerId = :providerId " +
+           "and r.updatedAt >= :since and (r.updatedAt > :since or r.reviewId > :afterId) order by r.updatedAt, r.reviewId")
+    List<ReviewView> findViewsByProviderIdChangedSince(@Param("providerId") Integer providerId,
+                                                       @Param("since") LocalDateTime since,
+                                                       @Param("afterId") Integer afterId, Pageable pageable);
+    
+    @Query("select new com.smarthub.dto.RatingSummary(avg(r.rating), count(r)) from Review r where r.providerId = :providerId")
+    RatingSummary summarizeByProviderId(@Param("providerId") Integer providerId);
 }
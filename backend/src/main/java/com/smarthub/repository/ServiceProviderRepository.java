@@ -1,17 +1,51 @@
 package com.smarthub.repository;
 
+import com.smarthub.dto.CollectionVersion;
+import com.smarthub.dto.ProviderView;
 import com.smarthub.entity.ServiceProvider;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ServiceProviderRepository extends JpaRepository<ServiceProvider, Integer> {
-    Optional<ServiceProvider> findByHomeId(Integer homeId);
     List<ServiceProvider> findByServiceTypeContainingIgnoreCase(String serviceType);
     List<ServiceProvider> findByLocationContainingIgnoreCase(String location);
     List<ServiceProvider> findByServiceTypeContainingIgnoreCaseAndLocationContainingIgnoreCase(
         String serviceType, String location);
+    
+    @Query("select p.price from ServiceProvider p where p.id = :providerId")
+    Optional<BigDecimal> findPriceById(@Param("providerId") Integer providerId);
+    
+    // Case-insensitive substring search on either filter; a null filter matches everything
+    @Query("select new com.smarthub.dto.ProviderView(p.id, p.fullName, p.email, p.mobile, p.serviceType, p.experience, p.price, p.availability, p.location) from ServiceProvider p " +
+           "where (:type is null or lower(p.serviceType) like lower(concat('%', :type, '%'))) " +
+           "and (:location is null or lower(p.location) like lower(concat('%', :location, '%')))")
+    List<ProviderView> searchViews(@Param("type") String type, @Param("location") String location);
+    
+    @Query("select new com.smarthub.dto.ProviderView(p.id, p.fullName, p.email, p.mobile, p.serviceType, p.experience, p.price, p.availability, p.location) from ServiceProvider p")
+    List<ProviderView> findAllViews();
+    
+    // Version of the whole provider table; search results can only change when it does
+    @Query("select new com.smarthub.dto.CollectionVersion(count(p), max(p.updatedAt)) from ServiceProvider p")
+    CollectionVersion version();
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+        // Full-table exports must not push the hot profiles out of the second-level cache
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select p from ServiceProvider p order by p.id")
+    Stream<ServiceProvider> streamAll();
 }
@@ -0,0 +1,208 @@
+package com.smarthub.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.smarthub.config.Bulkhead;
+import com.smarthub.entity.Booking;
+import com.smarthub.entity.Complaint;
+import com.smarthub.entity.ServiceProvider;
+import com.smarthub.entity.User;
+import com.smarthub.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams admin tables row by row as CSV or NDJSON.
+ *
+ * Rows come from a server-side cursor (useCursorFetch plus the fetch size hint on the streamAll
+ * repository methods) and every entity is detached right after it is written, so neither the
+ * JDBC driver nor the persistence context holds more than one fetch window of rows.
+ *
+ * The CSV columns are the entity's JSON properties, taken from its serializer rather than from the
+ * first row, so the header is written before any row is fetched and an empty table still exports
+ * a header line.
+ */
+@Service
+@Bulkhead(Bulkhead.ADMIN)
+public class AdminExportService {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase().trim());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    public enum Dataset {
+        USERS(User.class), PROVIDERS(ServiceProvider.class), BOOKINGS(Booking.class), COMPLAINTS(Complaint.class);
+
+        private final Class<?> type;
+
+        Dataset(Class<?> type) {
+            this.type = type;
+        }
+
+        public static Dataset from(String value) {
+            try {
+                return Dataset.valueOf(value.toUpperCase().trim());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown export dataset: " + value);
+            }
+        }
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceProviderRepository serviceProviderRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void export(Dataset dataset, Format format, OutputStream out) throws IOException {
+        try (Stream<?> rows = openStream(dataset)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            if (format == Format.CSV) {
+                writeCsv(rows, columns(dataset), writer);
+            } else {
+                writeNdjson(rows, writer);
+            }
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Stream<?> openStream(Dataset dataset) {
+        switch (dataset) {
+            case USERS:
+                return userRepository.streamAll();
+            case PROVIDERS:
+                return serviceProviderRepository.streamAll();
+            case BOOKINGS:
+                return bookingRepository.streamAll();
+            case COMPLAINTS:
+                return complaintRepository.streamAll();
+            default:
+                throw new IllegalArgumentException("Unknown export dataset: " + dataset);
+        }
+    }
+
+    private void writeNdjson(Stream<?> rows, Writer writer) {
+        ObjectWriter jsonWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        rows.forEach(row -> {
+            try {
+                jsonWriter.writeValue(writer, row);
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            entityManager.detach(row);
+        });
+    }
+
+    // Property names in the order Jackson writes them; @JsonIgnore'd fields are left out
+    private List<String> columns(Dataset dataset) throws IOException {
+        JsonSerializer<Object> serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(dataset.type);
+        List<String> columns = new ArrayList<>();
+        serializer.properties().forEachRemaining(property -> columns.add(property.getName()));
+        return columns;
+    }
+
+    private void writeCsv(Stream<?> rows, List<String> columns, Writer writer) throws IOException {
+        writeCsvLine(writer, columns, true);
+        List<String> values = new ArrayList<>(columns.size());
+        rows.forEach(row -> {
+            JsonNode node = objectMapper.valueToTree(row);
+            values.clear();
+            for (String column : columns) {
+                JsonNode value = node.get(column);
+                values.add(value == null || value.isNull() ? "" : value.asText());
+            }
+            try {
+                writeCsvLine(writer, values, false);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            entityManager.detach(row);
+        });
+    }
+
+    private void writeCsvLine(Writer writer, List<String> values, boolean header) throws IOException {
+        boolean first = true;
+        for (String value : values) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            if (header) {
+                writer.write(value);
+            } else {
+                writeCsvValue(writer, value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote values containing separators, quotes or line breaks and double embedded quotes
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+            && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,335 @@
+package com.smarthub.service;
+
+import com.smarthub.config.Bulkhead;
+import com.smarthub.dto.*;
+import com.smarthub.entity.Booking;
+import com.smarthub.entity.Complaint;
+import com.smarthub.entity.ServiceProvider;
+import com.smarthub.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keyset-paginated, filtered and sorted listings for the admin tables.
+ *
+ * Pages are selected as row projections ordered by (sort column, primary key) and continued with a
+ * "strictly after the last row" predicate, so fetching page N costs the same as fetching page 1.
+ * Totals are only estimated on the first page: table statistics when unfiltered, otherwise a
+ * count that stops at {@link #COUNT_CAP} matching ids.
+ */
+@Service
+@Bulkhead(Bulkhead.ADMIN)
+public class AdminQueryService {
+
+    private static final int DEFAULT_PAGE_SIZE = 25;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int COUNT_CAP = 1000;
+
+    private static final TableSpec<User, UserRow> USERS = new TableSpec<>(
+        User.class, UserRow.class, "user", "id",
+        List.of("id", "fullName", "email", "mobile", "location", "createdAt"),
+        Map.of("id", UserRow::getUserId, "createdAt", UserRow::getCreatedAt),
+        "createdAt", null, null, null,
+        List.of("fullName", "email", "mobile"));
+
+    private static final TableSpec<ServiceProvider, ProviderRow> PROVIDERS = new TableSpec<>(
+        ServiceProvider.class, ProviderRow.class, "service_provider", "id",
+        List.of("id", "fullName", "email", "mobile", "serviceType", "experience", "price", "location", "createdAt"),
+        Map.of("id", ProviderRow::getProviderId, "createdAt", ProviderRow::getCreatedAt),
+        "createdAt", null, null, "serviceType",
+        List.of("fullName", "email", "mobile", "location"));
+
+    private static final TableSpec<Booking, BookingRow> BOOKINGS = new TableSpec<>(
+        Booking.class, BookingRow.class, "booking", "bookingId",
+        List.of("bookingId", "userId", "providerId", "serviceType", "bookingDate", "bookingTime", "status", "createdAt"),
+        Map.of("bookingId", BookingRow::getBookingId, "createdAt", BookingRow::getCreatedAt,
+               "bookingDate", BookingRow::getBookingDate),
+        "bookingDate", "status", Booking.BookingStatus.class, "serviceType",
+        List.of("serviceType"));
+
+    private static final TableSpec<Complaint, ComplaintRow> COMPLAINTS = new TableSpec<>(
+        Complaint.class, ComplaintRow.class, "complaint", "complaintId",
+        List.of("complaintId", "userId", "providerId", "message", "status", "response", "createdAt"),
+        Map.of("complaintId", ComplaintRow::getComplaintId, "createdAt", ComplaintRow::getCreatedAt),
+        "createdAt", "status", Complaint.ComplaintStatus.class, null,
+        List.of("message"));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public KeysetPage<UserRow> pageUsers(AdminTableFilter filter) {
+        return page(USERS, filter);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<ProviderRow> pageProviders(AdminTableFilter filter) {
+        return page(PROVIDERS, filter);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<BookingRow> pageBookings(AdminTableFilter filter) {
+        return page(BOOKINGS, filter);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<ComplaintRow> pageComplaints(AdminTableFilter filter) {
+        return page(COMPLAINTS, filter);
+    }
+
+    private <E, R> KeysetPage<R> page(TableSpec<E, R> spec, AdminTableFilter filter) {
+        int size = filter.getSize() == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(filter.getSize(), MAX_PAGE_SIZE));
+        String sortAttribute = resolveSort(spec, filter.getSort());
+        boolean descending = "desc".equalsIgnoreCase(filter.getDirection());
+        boolean firstPage = filter.getCursor() == null || filter.getCursor().isBlank();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(spec.rowType);
+        Root<E> root = query.from(spec.entityType);
+
+        List<Predicate> predicates = filterPredicates(spec, filter, cb, root);
+        if (!firstPage) {
+            predicates.add(afterCursor(spec, sortAttribute, descending, filter.getCursor(), cb, root));
+        }
+
+        query.select(cb.construct(spec.rowType, spec.columns.stream().map(root::get).toArray(Selection[]::new)));
+        query.where(predicates.toArray(new Predicate[0]));
+        List<Order> order = new ArrayList<>();
+        order.add(descending ? cb.desc(root.get(sortAttribute)) : cb.asc(root.get(sortAttribute)));
+        if (!sortAttribute.equals(spec.idAttribute)) {
+            order.add(descending ? cb.desc(root.get(spec.idAttribute)) : cb.asc(root.get(spec.idAttribute)));
+        }
+        query.orderBy(order);
+
+        List<R> rows = entityManager.createQuery(query).setMaxResults(size + 1).getResultList();
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = new ArrayList<>(rows.subList(0, size));
+        }
+        String nextCursor = hasMore ? encodeCursor(spec, sortAttribute, rows.get(rows.size() - 1)) : null;
+
+        Long estimatedTotal = null;
+        boolean approximate = false;
+        if (firstPage) {
+            Long tableRows = isUnfiltered(filter) ? tableRowEstimate(spec.tableName) : null;
+            if (tableRows != null) {
+                estimatedTotal = tableRows;
+                approximate = true;
+            } else {
+                long matched = cappedCount(spec, filter);
+                estimatedTotal = Math.min(matched, COUNT_CAP);
+                approximate = matched > COUNT_CAP;
+            }
+        }
+
+        return new KeysetPage<>(rows, nextCursor, hasMore, estimatedTotal, approximate);
+    }
+
+    private <E, R> String resolveSort(TableSpec<E, R> spec, String sort) {
+        if (sort == null || sort.isBlank() || "id".equalsIgnoreCase(sort)) {
+            return spec.idAttribute;
+        }
+        if (!spec.sortValues.containsKey(sort)) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sort);
+        }
+        return sort;
+    }
+
+    private <E, R> List<Predicate> filterPredicates(TableSpec<E, R> spec, AdminTableFilter filter,
+                                                    CriteriaBuilder cb, Root<E> root) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (hasText(filter.getStatus())) {
+            if (spec.statusAttribute == null) {
+                throw new IllegalArgumentException("Status filter is not supported for this table");
+            }
+            predicates.add(cb.equal(root.get(spec.statusAttribute), parseStatus(spec.statusType, filter.getStatus())));
+        }
+
+        if (hasText(filter.getServiceType())) {
+            if (spec.serviceTypeAttribute == null) {
+                throw new IllegalArgumentException("Service type filter is not supported for this table");
+            }
+            predicates.add(cb.equal(root.get(spec.serviceTypeAttribute), filter.getServiceType().trim()));
+        }
+
+        if (filter.getFrom() != null) {
+            predicates.add(dateBound(spec, root, cb, filter.getFrom(), true));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(dateBound(spec, root, cb, filter.getTo(), false));
+        }
+
+        if (hasText(filter.getQ())) {
+            String pattern = "%" + escapeLike(filter.getQ().trim().toLowerCase()) + "%";
+            List<Predicate> matches = new ArrayList<>();
+            for (String attribute : spec.textAttributes) {
+                matches.add(cb.like(cb.lower(root.get(attribute)), pattern, '\\'));
+            }
+            predicates.add(cb.or(matches.toArray(new Predicate[0])));
+        }
+
+        return predicates;
+    }
+
+    // LocalDate columns compare by day; timestamp columns use [from 00:00, to+1 00:00)
+    private <E, R> Predicate dateBound(TableSpec<E, R> spec, Root<E> root, CriteriaBuilder cb,
+                                       LocalDate day, boolean lower) {
+        Path<?> path = root.get(spec.dateAttribute);
+        if (path.getJavaType() == LocalDate.class) {
+            Path<LocalDate> date = root.get(spec.dateAttribute);
+            return lower ? cb.greaterThanOrEqualTo(date, day) : cb.lessThanOrEqualTo(date, day);
+        }
+        Path<LocalDateTime> timestamp = root.get(spec.dateAttribute);
+        return lower
+            ? cb.greaterThanOrEqualTo(timestamp, day.atStartOfDay())
+            : cb.lessThan(timestamp, day.plusDays(1).atStartOfDay());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <E, R> Predicate afterCursor(TableSpec<E, R> spec, String sortAttribute, boolean descending,
+                                         String cursor, CriteriaBuilder cb, Root<E> root) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        String[] parts = decoded.split("\\|", 2);
+
+        Expression<Comparable> id = root.get(spec.idAttribute);
+        Comparable lastId = parseValue(root.get(spec.idAttribute).getJavaType(), parts[parts.length - 1]);
+        if (sortAttribute.equals(spec.idAttribute)) {
+            return descending ? cb.lessThan(id, lastId) : cb.greaterThan(id, lastId);
+        }
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Cursor does not match sort field: " + sortAttribute);
+        }
+
+        Expression<Comparable> sort = root.get(sortAttribute);
+        Comparable lastSort = parseValue(root.get(sortAttribute).getJavaType(), parts[0]);
+        Predicate beyond = descending ? cb.lessThan(sort, lastSort) : cb.greaterThan(sort, lastSort);
+        Predicate tieBreak = cb.and(cb.equal(sort, lastSort),
+            descending ? cb.lessThan(id, lastId) : cb.greaterThan(id, lastId));
+        return cb.or(beyond, tieBreak);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Comparable parseValue(Class<?> type, String value) {
+        try {
+            if (type == Integer.class) {
+                return Integer.valueOf(value);
+            } else if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            } else if (type == LocalDate.class) {
+                return LocalDate.parse(value);
+            } else if (type == LocalTime.class) {
+                return LocalTime.parse(value);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        throw new IllegalArgumentException("Unsupported cursor type: " + type.getSimpleName());
+    }
+
+    private <E, R> String encodeCursor(TableSpec<E, R> spec, String sortAttribute, R lastRow) {
+        String id = String.valueOf(spec.sortValues.get(spec.idAttribute).apply(lastRow));
+        String value = sortAttribute.equals(spec.idAttribute)
+            ? id
+            : spec.sortValues.get(sortAttribute).apply(lastRow) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Reads at most COUNT_CAP + 1 ids instead of counting every matching row
+    private <E, R> long cappedCount(TableSpec<E, R> spec, AdminTableFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = cb.createQuery(Object.class);
+        Root<E> root = query.from(spec.entityType);
+        query.select(root.get(spec.idAttribute));
+        query.where(filterPredicates(spec, filter, cb, root).toArray(new Predicate[0]));
+        return entityManager.createQuery(query).setMaxResults(COUNT_CAP + 1).getResultList().size();
+    }
+
+    // InnoDB keeps an approximate row count per table; fall back to a capped count elsewhere
+    private Long tableRowEstimate(String tableName) {
+        try {
+            return jdbcTemplate.queryForObject(
+                "SELECT table_rows FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                Long.class, tableName);
+        } catch (DataAccessException e) {
+            return null;
+        }
+    }
+
+    private boolean isUnfiltered(AdminTableFilter filter) {
+        return !hasText(filter.getStatus()) && !hasText(filter.getServiceType()) && !hasText(filter.getQ())
+            && filter.getFrom() == null && filter.getTo() == null;
+    }
+
+    private Object parseStatus(Class<? extends Enum<?>> statusType, String status) {
+        for (Enum<?> constant : statusType.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(status.trim())) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Invalid status: " + status);
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static final class TableSpec<E, R> {
+        final Class<E> entityType;
+        final Class<R> rowType;
+        final String tableName;
+        final String idAttribute;
+        final List<String> columns;
+        final Map<String, Function<R, Object>> sortValues;
+        final String dateAttribute;
+        final String statusAttribute;
+        final Class<? extends Enum<?>> statusType;
+        final String serviceTypeAttribute;
+        final List<String> textAttributes;
+
+        TableSpec(Class<E> entityType, Class<R> rowType, String tableName, String idAttribute,
+                  List<String> columns, Map<String, Function<R, Object>> sortValues,
+                  String dateAttribute, String statusAttribute, Class<? extends Enum<?>> statusType,
+                  String serviceTypeAttribute, List<String> textAttributes) {
+            this.entityType = entityType;
+            this.rowType = rowType;
+            this.tableName = tableName;
+            this.idAttribute = idAttribute;
+            this.columns = columns;
+            this.sortValues = sortValues;
+            this.dateAttribute = dateAttribute;
+            this.statusAttribute = statusAttribute;
+            this.statusType = statusType;
+            this.serviceTypeAttribute = serviceTypeAttribute;
+            this.textAttributes = textAttributes;
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package com.smarthub.service;
 
-import com.smarthub.entity.User;
-import com.smarthub.entity.ServiceProvider;
-import com.smarthub.entity.Booking;
+import com.smarthub.config.Bulkhead;
+import com.smarthub.dto.BookingView;
+import com.smarthub.dto.ProviderView;
+import com.smarthub.dto.UserView;
 import com.smarthub.entity.Complaint;
 import com.smarthub.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
+@Bulkhead(Bulkhead.ADMIN)
 public class AdminService {
     
     @Autowired
@@ -25,22 +28,23 @@ public class AdminService {
     @Autowired
     private ComplaintRepository complaintRepository;
     
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public List<UserView> getAllUsers() {
+        return userRepository.findAllViews();
     }
     
-    public List<ServiceProvider> getAllProviders() {
-        return serviceProviderRepository.findAll();
+    public List<ProviderView> getAllProviders() {
+        return serviceProviderRepository.findAllViews();
     }
     
-    public List<Booking> getAllBookings() {
-        return bookingRepository.findAll();
+    public List<BookingView> getAllBookings() {
+        return bookingRepository.findAllViews();
     }
     
     public List<Complaint> getAllComplaints() {
         return complaintRepository.findAll();
     }
     
+    @Transactional
     public Complaint updateComplaint(Integer complaintId, String status, String response) {
         Complaint complaint = complaintRepository.findById(complaintId)
             .orElseThrow(() -> new RuntimeException("Complaint not found"));
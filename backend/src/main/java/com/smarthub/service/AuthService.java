@@ -1,22 +1,33 @@
 package com.smarthub.service;
 
+import com.smarthub.config.Bulkhead;
+import com.smarthub.config.BulkheadAspect;
 import com.smarthub.dto.LoginRequest;
 import com.smarthub.dto.LoginResponse;
 import com.smarthub.dto.SignupRequest;
 import com.smarthub.entity.*;
 import com.smarthub.exception.ResourceNotFoundException;
-import com.smarthub.repository.*;
+import com.smarthub.repository.HomeRepository;
 import com.smarthub.validation.EmailValidator;
 import com.smarthub.validation.MobileNumberValidator;
 import com.smarthub.validation.PasswordValidator;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import java.math.BigDecimal;
+import java.util.function.Supplier;
 
+/**
+ * Sign-up and sign-in. BCrypt runs on the password executor and takes tens of milliseconds, so
+ * it never runs inside a transaction: each request does its lookup in a short read transaction,
+ * hashes or verifies with no connection held, and writes in a transaction of its own. Only those
+ * transactional steps take a permit from the auth bulkhead; how many requests may wait on hashing
+ * is bounded by the password executor's threads and queue.
+ */
 @Service
 public class AuthService {
     
@@ -24,27 +35,36 @@ public class AuthService {
     private HomeRepository homeRepository;
     
     @Autowired
-    private UserRepository userRepository;
+    private EmailValidator emailValidator;
     
     @Autowired
-    private ServiceProviderRepository serviceProviderRepository;
+    private PasswordValidator passwordValidator;
     
     @Autowired
-    private AdminRepository adminRepository;
+    private MobileNumberValidator mobileNumberValidator;
     
     @Autowired
-    private EmailValidator emailValidator;
+    private PasswordService passwordService;
     
     @Autowired
-    private PasswordValidator passwordValidator;
+    private SignupFilterService signupFilterService;
     
     @Autowired
-    private MobileNumberValidator mobileNumberValidator;
+    private BulkheadAspect bulkheadAspect;
     
-    @PersistenceContext
-    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+    
+    @PostConstruct
+    void init() {
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
     
-    @Transactional
     public LoginResponse register(SignupRequest request) {
         try {
             // Validate mobile
@@ -63,54 +83,37 @@ public class AuthService {
                 throw new IllegalArgumentException("Invalid email format");
             }
             
-            // Check if mobile already exists
-            if (homeRepository.existsByMobile(request.getMobile())) {
-                throw new IllegalArgumentException("Mobile number already registered");
+            // Empty email is stored as null so it doesn't collide with uk_home_email
+            String email = request.getEmail() != null && !request.getEmail().isEmpty() ? request.getEmail() : null;
+            
+            // Reject known duplicates before hashing. The Bloom filter clears most new values
+            // without a query; only probable hits are confirmed against home.
+            if (signupFilterService.mobileMightExist(request.getMobile())) {
+                boolean exists = read(() -> homeRepository.existsByMobile(request.getMobile()));
+                signupFilterService.recordConfirmation(exists);
+                if (exists) {
+                    throw new IllegalArgumentException("Mobile number already registered");
+                }
             }
-            
-            // Check if email already exists
-            if (request.getEmail() != null && !request.getEmail().isEmpty() 
-                && homeRepository.existsByEmail(request.getEmail())) {
-                throw new IllegalArgumentException("Email already registered");
+            if (email != null && signupFilterService.emailMightExist(email)) {
+                boolean exists = read(() -> homeRepository.existsByEmail(email));
+                signupFilterService.recordConfirmation(exists);
+                if (exists) {
+                    throw new IllegalArgumentException("Email already registered");
+                }
             }
             
-            // Create Home entry
-            Home home = new Home();
-            home.setFullName(request.getFullName());
-            home.setMobile(request.getMobile());
-            home.setEmail(request.getEmail());
-            home.setPassword(request.getPassword());
-            home.setRole(Home.Role.valueOf(request.getRole().toUpperCase()));
-            
-            // Save and flush to ensure we get the ID immediately
-            home = homeRepository.saveAndFlush(home);
-            
-            System.out.println("Home saved with ID: " + home.getId());
-            
-            // Create role-specific entry
-            Integer entityId = null;
-            String redirectUrl = "";
-            
-            switch (home.getRole()) {
+            // Create the account as its role entity: one home row plus the role row that shares its id
+            Home home;
+            switch (Home.Role.valueOf(request.getRole().toUpperCase())) {
                 case USER:
                     User user = new User();
-                    user.setHomeId(home.getId());
-                    user.setFullName(request.getFullName());
-                    user.setEmail(request.getEmail());
-                    user.setMobile(request.getMobile());
                     user.setLocation(request.getLocation() != null ? request.getLocation() : "");
-                    user = userRepository.saveAndFlush(user);
-                    entityId = user.getUserId();
-                    redirectUrl = "/user-dashboard";
-                    System.out.println("User saved with ID: " + user.getUserId());
+                    home = user;
                     break;
                     
                 case SERVICE_PROVIDER:
                     ServiceProvider provider = new ServiceProvider();
-                    provider.setHomeId(home.getId());
-                    provider.setFullName(request.getFullName());
-                    provider.setEmail(request.getEmail());
-                    provider.setMobile(request.getMobile());
                     provider.setServiceType(request.getServiceType() != null ? request.getServiceType() : "");
                     provider.setExperience(request.getExperience() != null ? request.getExperience() : 0);
                     
@@ -127,33 +130,37 @@ public class AuthService {
                     
                     provider.setAvailability(request.getAvailability() != null ? request.getAvailability() : "");
                     provider.setLocation(request.getLocation() != null ? request.getLocation() : "");
-                    provider = serviceProviderRepository.saveAndFlush(provider);
-                    entityId = provider.getProviderId();
-                    redirectUrl = "/provider-dashboard";
-                    System.out.println("Provider saved with ID: " + provider.getProviderId());
+                    home = provider;
                     break;
                     
-                case ADMIN:
-                    Admin admin = new Admin();
-                    admin.setHomeId(home.getId());
-                    admin.setFullName(request.getFullName());
-                    admin.setEmail(request.getEmail());
-                    admin.setMobile(request.getMobile());
-                    admin = adminRepository.saveAndFlush(admin);
-                    entityId = admin.getAdminId();
-                    redirectUrl = "/admin-dashboard";
-                    System.out.println("Admin saved with ID: " + admin.getAdminId());
+                default:
+                    home = new Admin();
                     break;
             }
+            home.setFullName(request.getFullName());
+            home.setMobile(request.getMobile());
+            home.setEmail(email);
+            home.setPassword(passwordService.hash(request.getPassword()));
+            
+            // The unique constraints on home stay the authority, which also closes the
+            // check-then-insert race.
+            // IDENTITY ids are assigned by the insert itself, so save() returns with the ID set.
+            Home account = home;
+            try {
+                home = write(() -> homeRepository.save(account));
+            } catch (DataIntegrityViolationException e) {
+                throw new IllegalArgumentException(duplicateMessage(e));
+            }
+            
+            System.out.println(home.getRole() + " account saved with ID: " + home.getId());
             
-            // Force flush to database
-            entityManager.flush();
+            signupFilterService.add(home.getMobile(), home.getEmail());
             
             return new LoginResponse(
                 "Registration successful",
                 home.getRole().toString(),
-                redirectUrl,
-                entityId,
+                dashboardOf(home.getRole()),
+                home.getId(),
                 home.getFullName(),
                 home.getEmail(),
                 home.getMobile()
@@ -166,7 +173,38 @@ public class AuthService {
         }
     }
     
-    @Transactional(readOnly = true)
+    // Maps a unique-constraint violation on home to the user-facing message
+    static String duplicateMessage(DataIntegrityViolationException e) {
+        String detail = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase();
+        if (detail.contains("uk_home_mobile")) {
+            return "Mobile number already registered";
+        }
+        if (detail.contains("uk_home_email")) {
+            return "Email already registered";
+        }
+        return "Mobile number or email already registered";
+    }
+    
+    // The connection-holding steps: a permit from the auth bulkhead, then a transaction
+    private <T> T read(Supplier<T> work) {
+        return bulkheadAspect.call(Bulkhead.AUTH, () -> readTransaction.execute(status -> work.get()));
+    }
+    
+    private <T> T write(Supplier<T> work) {
+        return bulkheadAspect.call(Bulkhead.AUTH, () -> writeTransaction.execute(status -> work.get()));
+    }
+    
+    private String dashboardOf(Home.Role role) {
+        switch (role) {
+            case USER:
+                return "/user-dashboard";
+            case SERVICE_PROVIDER:
+                return "/provider-dashboard";
+            default:
+                return "/admin-dashboard";
+        }
+    }
+    
     public LoginResponse login(LoginRequest request) {
         try {
             // Validate mobile
@@ -174,46 +212,34 @@ public class AuthService {
                 throw new IllegalArgumentException("Invalid mobile number");
             }
             
-            // Find user in home table
+            // Find user in home table and verify the password hash
             Home.Role role = Home.Role.valueOf(request.getRole().toUpperCase());
-            Home home = homeRepository.findByMobileAndPasswordAndRole(
-                request.getMobile(), 
-                request.getPassword(), 
-                role
-            ).orElseThrow(() -> new ResourceNotFoundException("Invalid credentials"));
-            
-            // Get role-specific data
-            Integer entityId = null;
-            String redirectUrl = "";
+            Home home = read(() -> homeRepository.findByMobileAndRole(request.getMobile(), role)).orElse(null);
+            if (home == null) {
+                passwordService.simulateMatch(request.getPassword());
+                throw new ResourceNotFoundException("Invalid credentials");
+            }
+            if (!passwordService.matches(request.getPassword(), home.getPassword())) {
+                throw new ResourceNotFoundException("Invalid credentials");
+            }
             
-            switch (home.getRole()) {
-                case USER:
-                    User user = userRepository.findByHomeId(home.getId())
-                        .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-                    entityId = user.getUserId();
-                    redirectUrl = "/user-dashboard";
-                    break;
-                    
-                case SERVICE_PROVIDER:
-                    ServiceProvider provider = serviceProviderRepository.findByHomeId(home.getId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
-                    entityId = provider.getProviderId();
-                    redirectUrl = "/provider-dashboard";
-                    break;
-                    
-                case ADMIN:
-                    Admin admin = adminRepository.findByHomeId(home.getId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
-                    entityId = admin.getAdminId();
-                    redirectUrl = "/admin-dashboard";
-                    break;
+            // Upgrade legacy plaintext passwords and hashes made with an older cost
+            if (passwordService.needsRehash(home.getPassword())) {
+                try {
+                    String upgraded = passwordService.hash(request.getPassword());
+                    Integer id = home.getId();
+                    write(() -> homeRepository.updatePassword(id, upgraded));
+                } catch (Exception e) {
+                    System.err.println("⚠️ Failed to rehash password: " + e.getMessage());
+                }
             }
             
+            // The account id is the user, provider or admin id, so the lookup above is the only query
             return new LoginResponse(
                 "Login successful",
                 home.getRole().toString(),
-                redirectUrl,
-                entityId,
+                dashboardOf(home.getRole()),
+                home.getId(),
                 home.getFullName(),
                 home.getEmail(),
                 home.getMobile()
@@ -0,0 +1,263 @@
+package com.smarthub.service;
+
+import com.smarthub.config.Bulkhead;
+import com.smarthub.config.BulkheadAspect;
+import com.smarthub.dto.BatchRequest;
+import com.smarthub.dto.BatchSubRequest;
+import com.smarthub.dto.BatchSubResponse;
+import com.smarthub.dto.ProviderView;
+import com.smarthub.dto.UserView;
+import com.smarthub.entity.ServiceProvider;
+import com.smarthub.entity.User;
+import com.smarthub.exception.ResourceNotFoundException;
+import com.smarthub.repository.ServiceProviderRepository;
+import com.smarthub.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Executes several read-only sub-requests against existing GET routes in one HTTP round trip.
+ *
+ * Identical paths run once and share their result. User and provider profile lookups are
+ * collected across the whole batch and loaded with a single findAllById per table; every other
+ * route runs on the bounded batch executor. Sub-requests are queued on LANES sequential chains,
+ * and each takes its own read permit on the executor thread, so one batch holds at most LANES
+ * read permits however many sub-requests it carries. A dashboard sub-request runs its queries
+ * one after another in its lane rather than fanning out to the query executor, which would hold
+ * a permit per query.
+ */
+@Service
+public class BatchService {
+
+    private static final int MAX_REQUESTS = 25;
+    private static final int LANES = 2;
+
+    private static final String USER_PROFILE = "/api/user/profile/{id}";
+    private static final String PROVIDER_PROFILE = "/api/provider/profile/{id}";
+
+    @FunctionalInterface
+    private interface Route {
+        Object handle(Map<String, String> variables, MultiValueMap<String, String> params);
+    }
+
+    // A sub-request after path matching; error is set when it cannot be routed
+    private static class Call {
+        String key;
+        String pattern;
+        Map<String, String> variables;
+        MultiValueMap<String, String> params;
+        BatchSubResponse error;
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceProviderRepository serviceProviderRepository;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ServiceProviderService serviceProviderService;
+    
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ProviderDashboardService providerDashboardService;
+
+    @Autowired
+    private BulkheadAspect bulkheadAspect;
+
+    @Autowired
+    @Qualifier("batchExecutor")
+    private Executor batchExecutor;
+
+    @PostConstruct
+    void registerRoutes() {
+        routes.put("/api/bookings/user/{userId}", (v, p) -> bookingService.getUserBookings(id(v, "userId")));
+        routes.put("/api/bookings/provider/{providerId}", (v, p) -> bookingService.getProviderBookings(id(v, "providerId")));
+        routes.put("/api/notifications/{receiverId}", (v, p) -> notificationService.getNotificationsByReceiverId(id(v, "receiverId")));
+        routes.put("/api/notifications/{receiverId}/unread", (v, p) -> notificationService.getUnreadNotifications(id(v, "receiverId")));
+        routes.put("/api/notifications/{receiverId}/unread/count",
+            (v, p) -> Map.of("count", notificationService.getUnreadCount(id(v, "receiverId"))));
+        routes.put("/api/provider/reviews/{providerId}", (v, p) -> serviceProviderService.getProviderReviews(id(v, "providerId")));
+        routes.put("/api/review/provider/{providerId}", (v, p) -> serviceProviderService.getProviderReviews(id(v, "providerId")));
+        routes.put("/api/review/user/{userId}", (v, p) -> reviewService.getUserReviews(id(v, "userId")));
+        routes.put("/api/provider/{id}/dashboard", (v, p) -> providerDashboardService.getDashboardInBatch(
+            id(v, "id"), p.containsKey("days") ? Integer.parseInt(p.getFirst("days")) : 7));
+    }
+
+    public List<BatchSubResponse> execute(BatchRequest request) {
+        List<BatchSubRequest> subRequests = request != null ? request.getRequests() : null;
+        if (subRequests == null || subRequests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one request");
+        }
+        if (subRequests.size() > MAX_REQUESTS) {
+            throw new IllegalArgumentException("Batch may contain at most " + MAX_REQUESTS + " requests");
+        }
+
+        List<Call> calls = subRequests.stream().map(this::route).toList();
+
+        Set<Integer> userIds = new LinkedHashSet<>();
+        Set<Integer> providerIds = new LinkedHashSet<>();
+        for (Call call : calls) {
+            if (call.error == null && USER_PROFILE.equals(call.pattern)) {
+                userIds.add(Integer.valueOf(call.variables.get("id")));
+            } else if (call.error == null && PROVIDER_PROFILE.equals(call.pattern)) {
+                providerIds.add(Integer.valueOf(call.variables.get("id")));
+            }
+        }
+        Lanes lanes = new Lanes();
+        // Same view types as the standalone profile routes
+        CompletableFuture<Map<Integer, UserView>> users = userIds.isEmpty()
+            ? CompletableFuture.completedFuture(Map.of())
+            : lanes.submit(() -> bulkheadAspect.call(Bulkhead.READ, () -> userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, UserView::from))));
+        CompletableFuture<Map<Integer, ProviderView>> providers = providerIds.isEmpty()
+            ? CompletableFuture.completedFuture(Map.of())
+            : lanes.submit(() -> bulkheadAspect.call(Bulkhead.READ, () -> serviceProviderRepository.findAllById(providerIds).stream()
+                .collect(Collectors.toMap(ServiceProvider::getProviderId, ProviderView::from))));
+
+        // Identical paths share one execution
+        Map<String, CompletableFuture<BatchSubResponse>> results = new HashMap<>();
+        for (Call call : calls) {
+            if (call.error != null || results.containsKey(call.key)) {
+                continue;
+            }
+            CompletableFuture<?> body;
+            if (USER_PROFILE.equals(call.pattern)) {
+                Integer id = Integer.valueOf(call.variables.get("id"));
+                body = users.thenApply(found -> Optional.ofNullable(found.get(id))
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found")));
+            } else if (PROVIDER_PROFILE.equals(call.pattern)) {
+                Integer id = Integer.valueOf(call.variables.get("id"));
+                body = providers.thenApply(found -> Optional.ofNullable(found.get(id))
+                    .orElseThrow(() -> new ResourceNotFoundException("Provider not found with id: " + id)));
+            } else {
+                // The route's service takes its own permit
+                Route route = routes.get(call.pattern);
+                body = lanes.submit(() -> route.handle(call.variables, call.params));
+            }
+            results.put(call.key, body.handle((value, error) -> error == null
+                ? new BatchSubResponse(null, null, HttpStatus.OK.value(), value)
+                : failure(error)));
+        }
+
+        List<BatchSubResponse> responses = new ArrayList<>(subRequests.size());
+        for (int i = 0; i < subRequests.size(); i++) {
+            BatchSubRequest subRequest = subRequests.get(i);
+            Call call = calls.get(i);
+            BatchSubResponse result = call.error != null ? call.error : results.get(call.key).join();
+            responses.add(new BatchSubResponse(subRequest.getId(), subRequest.getPath(), result.getStatus(), result.getBody()));
+        }
+        return responses;
+    }
+
+    // A fixed number of sequential chains on the batch executor; a failed sub-request does not stop
+    // the ones queued behind it
+    private class Lanes {
+        private final CompletableFuture<?>[] tails = new CompletableFuture<?>[LANES];
+        private int next;
+
+        Lanes() {
+            Arrays.fill(tails, CompletableFuture.completedFuture(null));
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<T> work) {
+            int lane = next++ % LANES;
+            CompletableFuture<T> result = tails[lane].handleAsync((previous, error) -> work.get(), batchExecutor);
+            tails[lane] = result;
+            return result;
+        }
+    }
+
+    private Call route(BatchSubRequest subRequest) {
+        Call call = new Call();
+        if (subRequest.getMethod() != null && !"GET".equalsIgnoreCase(subRequest.getMethod())) {
+            call.error = error(HttpStatus.METHOD_NOT_ALLOWED, "Only GET requests can be batched");
+            return call;
+        }
+        if (subRequest.getPath() == null || !subRequest.getPath().startsWith("/api/")) {
+            call.error = error(HttpStatus.BAD_REQUEST, "Path must start with /api/");
+            return call;
+        }
+
+        UriComponents uri = UriComponentsBuilder.fromUriString(subRequest.getPath()).build();
+        String path = uri.getPath();
+        call.key = uri.toUriString();
+        call.params = uri.getQueryParams();
+
+        for (String pattern : List.of(USER_PROFILE, PROVIDER_PROFILE)) {
+            if (pathMatcher.match(pattern, path)) {
+                call.pattern = pattern;
+            }
+        }
+        if (call.pattern == null) {
+            call.pattern = routes.keySet().stream()
+                .filter(pattern -> pathMatcher.match(pattern, path))
+                .findFirst()
+                .orElse(null);
+        }
+        if (call.pattern == null) {
+            call.error = error(HttpStatus.NOT_FOUND, "No batchable route for " + path);
+            return call;
+        }
+        call.variables = pathMatcher.extractUriTemplateVariables(call.pattern, path);
+
+        if (USER_PROFILE.equals(call.pattern) || PROVIDER_PROFILE.equals(call.pattern)) {
+            try {
+                id(call.variables, "id");
+            } catch (IllegalArgumentException e) {
+                call.error = error(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+        }
+        return call;
+    }
+
+    private Integer id(Map<String, String> variables, String name) {
+        try {
+            return Integer.valueOf(variables.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + variables.get(name));
+        }
+    }
+
+    // Same status codes and message shape as GlobalExceptionHandler
+    private BatchSubResponse failure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ResourceNotFoundException) {
+            return error(HttpStatus.NOT_FOUND, cause.getMessage());
+        }
+        if (cause instanceof IllegalArgumentException) {
+            return error(HttpStatus.BAD_REQUEST, cause.getMessage());
+        }
+        System.err.println("⚠️ Batch sub-request failed: " + cause.getMessage());
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "An error occurred: " + cause.getMessage());
+    }
+
+    private BatchSubResponse error(HttpStatus status, String message) {
+        return new BatchSubResponse(null, null, status.value(), Map.of("message", String.valueOf(message)));
+    }
+}
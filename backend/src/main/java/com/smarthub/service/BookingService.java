@@ -1,17 +1,24 @@
 package com.smarthub.service;
 
+import com.smarthub.config.Bulkhead;
 import com.smarthub.dto.BookingRequest;
+import com.smarthub.dto.BookingView;
+import com.smarthub.dto.CollectionVersion;
 import com.smarthub.entity.Booking;
 import com.smarthub.entity.Notification;
 import com.smarthub.exception.ResourceNotFoundException;
 import com.smarthub.repository.BookingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Service
+@Bulkhead(Bulkhead.BOOKING)
 public class BookingService {
     
     @Autowired
@@ -20,13 +27,21 @@ public class BookingService {
     @Autowired
     private NotificationService notificationService;
     
+    @Autowired
+    private StatsRollupService statsRollupService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
     // Date formatters for notifications
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
     
     /**
-     * Create a new booking and send notification to provider
+     * Create a new booking and send notification to provider.
+     * The booking, its rollup bump and the notification commit together or not at all.
      */
+    @Transactional
     public Booking createBooking(BookingRequest request) {
         Booking booking = new Booking();
         booking.setUserId(request.getUserId());
@@ -37,150 +52,181 @@ public class BookingService {
         booking.setStatus(Booking.BookingStatus.PENDING);
         
         Booking savedBooking = bookingRepository.save(booking);
+        statsRollupService.recordBookingCreated(savedBooking);
         
-        try {
-            String formattedDate = savedBooking.getBookingDate().format(DATE_FORMATTER);
-            String formattedTime = savedBooking.getBookingTime().format(TIME_FORMATTER);
-            
-            Notification notification = new Notification();
-            notification.setReceiverId(savedBooking.getProviderId());
-            notification.setReceiverType("PROVIDER");
-            notification.setMessage("🔔 New booking request from User #" + savedBooking.getUserId() + 
-                                   " for " + savedBooking.getServiceType() + 
-                                   " on " + formattedDate + " at " + formattedTime);
-            notification.setType("BOOKING_REQUEST");
-            notification.setStatus("UNREAD");
-            notification.setRelatedBookingId(savedBooking.getBookingId());
-            
-            notificationService.createNotification(notification);
-        } catch (Exception e) {
-            System.err.println("⚠️ Failed to create notification: " + e.getMessage());
-            e.printStackTrace();
-        }
+        Notification notification = new Notification();
+        notification.setReceiverId(savedBooking.getProviderId());
+        notification.setReceiverType("PROVIDER");
+        notification.setMessage(bookingRequestMessage(savedBooking));
+        notification.setType("BOOKING_REQUEST");
+        notification.setStatus("UNREAD");
+        notification.setRelatedBookingId(savedBooking.getBookingId());
+        notificationService.createNotification(notification);
         
+        countStatus(savedBooking.getStatus());
         return savedBooking;
     }
     
-    public List<Booking> getUserBookings(Integer userId) {
-        return bookingRepository.findByUserId(userId);
+    @Bulkhead(Bulkhead.READ)
+    public List<BookingView> getUserBookings(Integer userId) {
+        return bookingRepository.findViewsByUserId(userId);
     }
     
-    public List<Booking> getProviderBookings(Integer providerId) {
-        return bookingRepository.findByProviderId(providerId);
+    @Bulkhead(Bulkhead.READ)
+    public CollectionVersion getUserBookingsVersion(Integer userId) {
+        return bookingRepository.versionByUserId(userId);
     }
     
+    @Bulkhead(Bulkhead.READ)
+    public CollectionVersion getProviderBookingsVersion(Integer providerId) {
+        return bookingRepository.versionByProviderId(providerId);
+    }
+    
+    @Bulkhead(Bulkhead.READ)
+    public List<BookingView> getProviderBookings(Integer providerId) {
+        return bookingRepository.findViewsByProviderId(providerId);
+    }
+    
+    /**
+     * Moves a booking to a new status. The booking row stays locked until commit, so concurrent
+     * changes see each other's result and the rollup moves the booking out of the status it
+     * really left, once. The rollup and the notification commit with the status change.
+     */
+    @Transactional
     public Booking updateBookingStatus(Integer bookingId, String status) {
-        Booking booking = bookingRepository.findById(bookingId)
-            .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
+        String normalizedStatus = status.toUpperCase().trim();
+        
+        // Map CONFIRMED to ACCEPTED
+        if ("CONFIRMED".equals(normalizedStatus)) {
+            normalizedStatus = "ACCEPTED";
+        }
         
+        Booking.BookingStatus newStatus;
         try {
-            String normalizedStatus = status.toUpperCase().trim();
-            
-            // Map CONFIRMED to ACCEPTED
-            if ("CONFIRMED".equals(normalizedStatus)) {
-                normalizedStatus = "ACCEPTED";
-            }
-            
-            Booking.BookingStatus newStatus;
-            try {
-                newStatus = Booking.BookingStatus.valueOf(normalizedStatus);
-            } catch (IllegalArgumentException e) {
-                throw new RuntimeException("Invalid booking status: " + status);
-            }
-            
-            booking.setStatus(newStatus);
-            Booking updatedBooking = bookingRepository.save(booking);
-            
-            try {
-                String formattedDate = booking.getBookingDate().format(DATE_FORMATTER);
-                
-                Notification notification = new Notification();
-                notification.setReceiverId(booking.getUserId());
-                notification.setReceiverType("USER");
-                notification.setRelatedBookingId(bookingId);
-                notification.setStatus("UNREAD");
-                
-                switch (newStatus) {
-                    case ACCEPTED:
-                    case CONFIRMED:
-                        notification.setType("BOOKING_ACCEPTED");
-                        notification.setMessage("✅ Great news! Your booking for " + booking.getServiceType() + 
-                                              " on " + formattedDate + " has been accepted by the provider!");
-                        break;
-                        
-                    case REJECTED:
-                        notification.setType("BOOKING_REJECTED");
-                        notification.setMessage("❌ Sorry, your booking for " + booking.getServiceType() + 
-                                              " on " + formattedDate + " has been rejected. Please try another provider.");
-                        break;
-                        
-                    case COMPLETED:
-                        notification.setType("BOOKING_COMPLETED");
-                        notification.setMessage("🎉 Your booking for " + booking.getServiceType() + " has been completed! Thank you for using our service.");
-                        break;
-                        
-                    case CANCELLED:
-                        notification.setType("BOOKING_CANCELLED");
-                        notification.setMessage("🚫 Your booking for " + booking.getServiceType() + " has been cancelled.");
-                        break;
-                        
-                    default:
-                        notification.setType("BOOKING_UPDATE");
-                        notification.setMessage("ℹ️ Your booking for " + booking.getServiceType() + " status has been updated to: " + newStatus);
-                }
-                
-                notificationService.createNotification(notification);
-            } catch (Exception e) {
-                System.err.println("⚠️ Failed to create notification: " + e.getMessage());
-                e.printStackTrace();
-            }
-            
-            return updatedBooking;
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to update booking status: " + e.getMessage(), e);
+            newStatus = Booking.BookingStatus.valueOf(normalizedStatus);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid booking status: " + status);
         }
+        
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
+            .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
+        Booking.BookingStatus previousStatus = booking.getStatus();
+        if (previousStatus == newStatus) {
+            return booking;
+        }
+        
+        booking.setStatus(newStatus);
+        Booking updatedBooking = bookingRepository.save(booking);
+        statsRollupService.recordStatusChange(updatedBooking, previousStatus, newStatus);
+        
+        Notification notification = new Notification();
+        notification.setReceiverId(booking.getUserId());
+        notification.setReceiverType("USER");
+        notification.setRelatedBookingId(bookingId);
+        notification.setStatus("UNREAD");
+        describeStatusChange(notification, booking, newStatus);
+        notificationService.createNotification(notification);
+        
+        countStatus(newStatus);
+        return updatedBooking;
     }
     
-    public List<Booking> getAllBookings() {
-        return bookingRepository.findAll();
+    @Bulkhead(Bulkhead.ADMIN)
+    public List<BookingView> getAllBookings() {
+        return bookingRepository.findAllViews();
     }
     
+    // Locks the booking like updateBookingStatus; cancelling twice changes nothing the second time
+    @Transactional
     public Booking cancelBooking(Integer bookingId, Integer userId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
             .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
         
         if (!booking.getUserId().equals(userId)) {
             throw new RuntimeException("Unauthorized: You can only cancel your own bookings");
         }
         
+        Booking.BookingStatus previousStatus = booking.getStatus();
+        if (previousStatus == Booking.BookingStatus.CANCELLED) {
+            return booking;
+        }
+        
         booking.setStatus(Booking.BookingStatus.CANCELLED);
         Booking cancelledBooking = bookingRepository.save(booking);
+        statsRollupService.recordStatusChange(cancelledBooking, previousStatus, Booking.BookingStatus.CANCELLED);
         
-        try {
-            String formattedDate = booking.getBookingDate().format(DATE_FORMATTER);
-            
-            Notification notification = new Notification();
-            notification.setReceiverId(booking.getProviderId());
-            notification.setReceiverType("PROVIDER");
-            notification.setMessage("🚫 User #" + userId + " has cancelled their booking for " + 
-                                   booking.getServiceType() + " on " + formattedDate);
-            notification.setType("BOOKING_CANCELLED");
-            notification.setStatus("UNREAD");
-            notification.setRelatedBookingId(bookingId);
-            
-            notificationService.createNotification(notification);
-        } catch (Exception e) {
-            System.err.println("⚠️ Failed to create notification: " + e.getMessage());
-            e.printStackTrace();
-        }
+        Notification notification = new Notification();
+        notification.setReceiverId(booking.getProviderId());
+        notification.setReceiverType("PROVIDER");
+        notification.setMessage(cancellationMessage(booking, userId));
+        notification.setType("BOOKING_CANCELLED");
+        notification.setStatus("UNREAD");
+        notification.setRelatedBookingId(bookingId);
+        notificationService.createNotification(notification);
         
+        countStatus(Booking.BookingStatus.CANCELLED);
         return cancelledBooking;
     }
     
+    @Bulkhead(Bulkhead.READ)
     public Booking getBookingById(Integer bookingId) {
         return bookingRepository.findById(bookingId)
             .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
     }
+    
+    // Bookings entering each status; a new booking enters PENDING
+    private void countStatus(Booking.BookingStatus status) {
+        Counter.builder("smarthub.bookings.status")
+            .description("Bookings entering each status")
+            .tag("status", status.name())
+            .register(meterRegistry)
+            .increment();
+    }
+    
+    // Notification texts, kept apart from the writes so they can be benchmarked on their own
+    
+    static String bookingRequestMessage(Booking booking) {
+        return "🔔 New booking request from User #" + booking.getUserId() + 
+               " for " + booking.getServiceType() + 
+               " on " + booking.getBookingDate().format(DATE_FORMATTER) +
+               " at " + booking.getBookingTime().format(TIME_FORMATTER);
+    }
+    
+    static void describeStatusChange(Notification notification, Booking booking, Booking.BookingStatus newStatus) {
+        String formattedDate = booking.getBookingDate().format(DATE_FORMATTER);
+        
+        switch (newStatus) {
+            case ACCEPTED:
+            case CONFIRMED:
+                notification.setType("BOOKING_ACCEPTED");
+                notification.setMessage("✅ Great news! Your booking for " + booking.getServiceType() + 
+                                      " on " + formattedDate + " has been accepted by the provider!");
+                break;
+                
+            case REJECTED:
+                notification.setType("BOOKING_REJECTED");
+                notification.setMessage("❌ Sorry, your booking for " + booking.getServiceType() + 
+                                      " on " + formattedDate + " has been rejected. Please try another provider.");
+                break;
+                
+            case COMPLETED:
+                notification.setType("BOOKING_COMPLETED");
+                notification.setMessage("🎉 Your booking for " + booking.getServiceType() + " has been completed! Thank you for using our service.");
+                break;
+                
+            case CANCELLED:
+                notification.setType("BOOKING_CANCELLED");
+                notification.setMessage("🚫 Your booking for " + booking.getServiceType() + " has been cancelled.");
+                break;
+                
+            default:
+                notification.setType("BOOKING_UPDATE");
+                notification.setMessage("ℹ️ Your booking for " + booking.getServiceType() + " status has been updated to: " + newStatus);
+        }
+    }
+    
+    static String cancellationMessage(Booking booking, Integer userId) {
+        return "🚫 User #" + userId + " has cancelled their booking for " + 
+               booking.getServiceType() + " on " + booking.getBookingDate().format(DATE_FORMATTER);
+    }
 }
@@ -1,23 +1,33 @@
 package com.smarthub.service;
 
+import com.smarthub.config.Bulkhead;
 import com.smarthub.dto.ComplaintRequest;
 import com.smarthub.entity.Complaint;
 import com.smarthub.repository.ComplaintRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Bulkhead(Bulkhead.BOOKING)
 public class ComplaintService {
     
     @Autowired
     private ComplaintRepository complaintRepository;
     
+    @Autowired
+    private StatsRollupService statsRollupService;
+    
+    // The complaint and its rollup bump commit together
+    @Transactional
     public Complaint createComplaint(ComplaintRequest request) {
         Complaint complaint = new Complaint();
         complaint.setUserId(request.getUserId());
         complaint.setProviderId(request.getProviderId());
         complaint.setMessage(request.getMessage());
         complaint.setStatus(Complaint.ComplaintStatus.OPEN);
-        return complaintRepository.save(complaint);
+        Complaint savedComplaint = complaintRepository.save(complaint);
+        statsRollupService.recordComplaint(savedComplaint);
+        return savedComplaint;
     }
 }
@@ -0,0 +1,663 @@
+package com.smarthub.service;
+
+import com.smarthub.config.DatagenProperties;
+import com.smarthub.config.PooledTableIdGenerator;
+import com.smarthub.entity.Booking;
+import com.smarthub.entity.Notification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills the database with a synthetic but realistically shaped dataset for load and query-plan
+ * testing. Runs instead of the web app under the "datagen" profile:
+ *
+ *   java -jar backend-exec.jar --spring.profiles.active=datagen --datagen.bookings=10000000 --datagen.seed=7
+ *
+ * Shape: providers and cities follow Zipf distributions (a few providers and metros take most of
+ * the bookings), each booking goes to a customer in the provider's city, and booking dates follow
+ * weekly and yearly seasons on top of steady growth. Statuses, notifications and reviews follow
+ * from the booking date the way the booking flow would have left them.
+ *
+ * Rows are written with JDBC batch inserts (multi-row INSERTs on MySQL through
+ * rewriteBatchedStatements), or with LOAD DATA LOCAL INFILE under datagen.load-data, by several
+ * writer threads, one transaction per chunk. The secondary indexes of booking, notifications and
+ * review are dropped for the load and built once at the end (datagen.defer-indexes). Every chunk draws
+ * from its own random stream, so the output does not depend on thread scheduling. Account ids
+ * continue after the highest home id; booking, notification and review ids are reserved as one
+ * block each from id_sequences, so the app can keep running against the same database. Run it
+ * while nobody signs up, though: account ids are assigned explicitly.
+ */
+@Service
+@Profile("datagen")
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final String[] CITIES = {
+        "Mumbai", "Delhi", "Bengaluru", "Hyderabad", "Chennai", "Kolkata", "Pune", "Ahmedabad", "Jaipur",
+        "Lucknow", "Surat", "Nagpur", "Indore", "Bhopal", "Patna", "Vadodara", "Coimbatore", "Kochi",
+        "Chandigarh", "Visakhapatnam"
+    };
+    private static final String[] SERVICE_TYPES = {"Electrician", "Plumber", "Cleaner", "Carpenter", "Mechanic", "Tutor"};
+    private static final double[] SERVICE_TYPE_WEIGHTS = {24, 22, 20, 14, 12, 8};
+    private static final int[] BASE_PRICES = {400, 350, 300, 450, 600, 500};
+    private static final String[] AVAILABILITY = {"Mon-Sat 9AM-6PM", "Weekdays 10AM-7PM", "All days 8AM-8PM", "Weekends only"};
+
+    private static final String[] FIRST_NAMES = {
+        "Aarav", "Vivaan", "Aditya", "Arjun", "Rohan", "Karan", "Rahul", "Vikram", "Sanjay", "Amit",
+        "Priya", "Ananya", "Diya", "Sneha", "Pooja", "Neha", "Kavya", "Meera", "Riya", "Sakshi"
+    };
+    private static final String[] LAST_NAMES = {
+        "Sharma", "Verma", "Patel", "Reddy", "Iyer", "Nair", "Gupta", "Singh", "Kumar", "Das",
+        "Joshi", "Mehta", "Rao", "Pillai", "Chopra", "Bose", "Kulkarni", "Desai", "Shah", "Menon"
+    };
+
+    // Start hours 8:00 to 20:00, busiest mid-morning
+    private static final WeightedSampler HOURS = new WeightedSampler(new double[]{6, 10, 12, 11, 8, 6, 7, 8, 9, 9, 7, 4, 3});
+
+    private static final Booking.BookingStatus[] PAST_STATUSES = {
+        Booking.BookingStatus.COMPLETED, Booking.BookingStatus.PAID, Booking.BookingStatus.CANCELLED,
+        Booking.BookingStatus.REJECTED, Booking.BookingStatus.ACCEPTED, Booking.BookingStatus.PENDING
+    };
+    private static final WeightedSampler PAST = new WeightedSampler(new double[]{50, 22, 12, 8, 5, 3});
+    private static final Booking.BookingStatus[] FUTURE_STATUSES = {
+        Booking.BookingStatus.PENDING, Booking.BookingStatus.ACCEPTED, Booking.BookingStatus.CANCELLED,
+        Booking.BookingStatus.REJECTED
+    };
+    private static final WeightedSampler FUTURE = new WeightedSampler(new double[]{55, 35, 6, 4});
+
+    // Ratings 1..5, J-shaped like most review sites
+    private static final WeightedSampler RATINGS = new WeightedSampler(new double[]{7, 6, 12, 30, 45});
+    private static final String[][] COMMENTS = {
+        {"Did not show up on time and left the job half done.", "Very poor service."},
+        {"Work was rushed, had to call someone else.", "Overpriced for what was done."},
+        {"Okay service, nothing special.", "Got the job done eventually."},
+        {"Good work and polite.", "Quick and professional.", "Would book again."},
+        {"Excellent service, highly recommended!", "Very skilled and punctual.", "Best in the area, fair price."}
+    };
+
+    private static final String INSERT_HOME =
+        "insert into home (id, full_name, email, mobile, password, role, created_at) values (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] HOME_TYPES =
+        {Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP};
+    private static final String INSERT_USER = "insert into user (user_id, location) values (?, ?)";
+    private static final int[] USER_TYPES = {Types.INTEGER, Types.VARCHAR};
+    private static final String INSERT_PROVIDER =
+        "insert into service_provider (provider_id, service_type, experience, price, availability, location, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] PROVIDER_TYPES =
+        {Types.INTEGER, Types.VARCHAR, Types.INTEGER, Types.DECIMAL, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP};
+    // The bulk-loaded tables, written by batch insert or LOAD DATA
+    private static final LoadTarget BOOKINGS = new LoadTarget("booking",
+        "booking_id, user_id, provider_id, service_type, booking_date, booking_time, status, created_at, updated_at",
+        new int[]{Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.DATE, Types.TIME, Types.VARCHAR,
+            Types.TIMESTAMP, Types.TIMESTAMP});
+    private static final LoadTarget NOTIFICATIONS = new LoadTarget("notifications",
+        "notification_id, receiver_id, receiver_type, message, type, status, related_booking_id, created_at, updated_at",
+        new int[]{Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER,
+            Types.TIMESTAMP, Types.TIMESTAMP});
+    private static final LoadTarget REVIEWS = new LoadTarget("review",
+        "review_id, booking_id, user_id, provider_id, rating, comment, created_at, updated_at",
+        new int[]{Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.VARCHAR,
+            Types.TIMESTAMP, Types.TIMESTAMP});
+
+    private static final String IN_LOADED_TABLES =
+        "('" + BOOKINGS.table() + "', '" + NOTIFICATIONS.table() + "', '" + REVIEWS.table() + "')";
+
+    // Random streams; each chunk of a stream gets its own generator
+    private static final long PLAN_STREAM = 1;
+    private static final long ACCOUNT_STREAM = 2;
+    private static final long BOOKING_STREAM = 3;
+
+    @Autowired
+    private DatagenProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordService passwordService;
+
+    @Autowired
+    private StatsRollupService statsRollupService;
+
+    @Autowired
+    private ProfileCacheService profileCacheService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    // Everything the chunk writers share; read-only once built
+    private static class Plan {
+        LocalDate anchor;
+        LocalDateTime cap;
+        LocalDate firstDay;
+        String passwordHash;
+        int homeBase;
+        int users;
+        long bookingBase;
+        long notificationBase;
+        long reviewBase;
+        byte[] userCity;
+        byte[] providerCity;
+        byte[] providerType;
+        int[][] usersByCity;
+        WeightedSampler[] userSamplers;
+        WeightedSampler anyUser;
+        WeightedSampler providers;
+        WeightedSampler days;
+    }
+
+    private record LoadTarget(String table, String columns, int[] types) {
+        String insert() {
+            return "insert into " + table + " (" + columns + ") values ("
+                + String.join(", ", Collections.nCopies(types.length, "?")) + ")";
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(int chunk, long from, long to);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        generate();
+        if (properties.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    public Map<String, Long> generate() {
+        long started = System.currentTimeMillis();
+        int users = properties.getUsers();
+        int providers = properties.getProviders();
+        long bookings = properties.getBookings();
+        if (users <= 0 || providers <= 0 || bookings < 0) {
+            throw new IllegalArgumentException("datagen.users and datagen.providers must be positive, datagen.bookings not negative");
+        }
+
+        Plan plan = plan(users, providers);
+        if ((long) plan.homeBase + users + providers > 999_999_999L) {
+            throw new IllegalArgumentException("Account ids would no longer fit the generated 10-digit mobile numbers");
+        }
+        System.out.println("Dataset generator: seed " + properties.getSeed() + ", " + users + " users, " + providers
+            + " providers, " + bookings + " bookings, anchor " + plan.anchor + ", " + properties.getThreads() + " threads");
+
+        inChunks("Accounts", users + providers, (chunk, from, to) -> writeAccounts(plan, chunk, from, to));
+        try {
+            // MySQL moves AUTO_INCREMENT past explicit ids by itself; H2 needs to be told
+            jdbcTemplate.execute("alter table home auto_increment = " + (plan.homeBase + users + providers + 1));
+        } catch (Exception e) {
+            System.err.println("⚠️ Failed to move home AUTO_INCREMENT past the generated accounts: " + e.getMessage());
+        }
+
+        // Ids are reserved for the largest possible count (two notifications and one review per
+        // booking) so that every id follows from the booking index alone
+        plan.bookingBase = reserve("booking", bookings);
+        plan.notificationBase = properties.isNotifications() ? reserve("notifications", 2 * bookings) : 0;
+        plan.reviewBase = properties.getReviewRate() > 0 ? reserve("review", bookings) : 0;
+        if (Math.max(plan.bookingBase + bookings, Math.max(plan.notificationBase + 2 * bookings, plan.reviewBase + bookings))
+            > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Reserved ids would overflow the INT id columns");
+        }
+
+        AtomicLong notifications = new AtomicLong();
+        AtomicLong reviews = new AtomicLong();
+        if (properties.isLoadData()) {
+            try {
+                Files.createDirectories(Path.of(properties.getLoadDirectory()));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to create datagen.load-directory: " + e.getMessage(), e);
+            }
+        }
+        Map<String, String> deferred = new LinkedHashMap<>();
+        try {
+            if (properties.isDeferIndexes()) {
+                dropSecondaryIndexes(deferred);
+            }
+            inChunks("Bookings", bookings, (chunk, from, to) -> writeBookings(plan, chunk, from, to, notifications, reviews));
+        } finally {
+            restoreIndexes(deferred);
+        }
+
+        profileCacheService.evictQueryResults();
+        if (properties.isRebuildStats()) {
+            long rebuildStarted = System.currentTimeMillis();
+            Map<String, Long> rebuilt = statsRollupService.rebuild();
+            System.out.println("Stats rollups rebuilt in " + (System.currentTimeMillis() - rebuildStarted) + " ms: " + rebuilt);
+        }
+
+        Map<String, Long> counts = Map.of(
+            "users", (long) users,
+            "providers", (long) providers,
+            "bookings", bookings,
+            "notifications", notifications.get(),
+            "reviews", reviews.get(),
+            "elapsedMs", System.currentTimeMillis() - started);
+        System.out.println("Dataset generated: " + counts);
+        return counts;
+    }
+
+    private Plan plan(int users, int providers) {
+        Plan plan = new Plan();
+        plan.anchor = properties.getAnchorDate() != null ? properties.getAnchorDate() : LocalDate.now();
+        // Nothing is created or updated after the start of the anchor day
+        plan.cap = plan.anchor.atStartOfDay();
+        plan.firstDay = plan.anchor.minusDays(properties.getHistoryDays());
+        plan.passwordHash = passwordService.hash(properties.getPassword());
+        Integer maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from home", Integer.class);
+        plan.homeBase = maxId != null ? maxId : 0;
+        plan.users = users;
+
+        SplittableRandom random = random(PLAN_STREAM, 0);
+        WeightedSampler cities = WeightedSampler.zipf(CITIES.length, properties.getCitySkew());
+        WeightedSampler types = new WeightedSampler(SERVICE_TYPE_WEIGHTS);
+
+        plan.userCity = new byte[users];
+        int[] cityUsers = new int[CITIES.length];
+        for (int i = 0; i < users; i++) {
+            plan.userCity[i] = (byte) cities.sample(random);
+            cityUsers[plan.userCity[i]]++;
+        }
+        plan.usersByCity = new int[CITIES.length][];
+        plan.userSamplers = new WeightedSampler[CITIES.length];
+        for (int c = 0; c < CITIES.length; c++) {
+            plan.usersByCity[c] = new int[cityUsers[c]];
+            if (cityUsers[c] > 0) {
+                plan.userSamplers[c] = WeightedSampler.zipf(cityUsers[c], properties.getUserSkew());
+            }
+            cityUsers[c] = 0;
+        }
+        for (int i = 0; i < users; i++) {
+            int c = plan.userCity[i];
+            plan.usersByCity[c][cityUsers[c]++] = i;
+        }
+        plan.anyUser = WeightedSampler.zipf(users, properties.getUserSkew());
+
+        plan.providerCity = new byte[providers];
+        plan.providerType = new byte[providers];
+        for (int i = 0; i < providers; i++) {
+            plan.providerCity[i] = (byte) cities.sample(random);
+            plan.providerType[i] = (byte) types.sample(random);
+        }
+        plan.providers = WeightedSampler.zipf(providers, properties.getProviderSkew());
+        plan.days = new WeightedSampler(dayWeights(plan.firstDay, properties.getHistoryDays(), properties.getFutureDays()));
+        return plan;
+    }
+
+    // Demand per calendar day: growth over the window, busier weekends, a festive-season peak in
+    // late October and a smaller monsoon one; days after the anchor are only partly booked yet
+    private static double[] dayWeights(LocalDate firstDay, int historyDays, int futureDays) {
+        int days = historyDays + futureDays;
+        double[] weights = new double[days];
+        for (int d = 0; d < days; d++) {
+            LocalDate date = firstDay.plusDays(d);
+            double growth = 0.5 + (double) d / days;
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            double weekly = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY ? 1.4 : 1.0;
+            int dayOfYear = date.getDayOfYear();
+            double yearly = 1 + 0.35 * Math.cos(2 * Math.PI * (dayOfYear - 300) / 365.25)
+                + 0.2 * Math.cos(2 * Math.PI * (dayOfYear - 182) / 365.25);
+            double booked = d < historyDays ? 1 : Math.exp(-(d - historyDays) / 14.0);
+            weights[d] = growth * weekly * Math.max(yearly, 0.1) * booked;
+        }
+        return weights;
+    }
+
+    private void writeAccounts(Plan plan, int chunk, long from, long to) {
+        SplittableRandom random = random(ACCOUNT_STREAM, chunk);
+        List<Object[]> homes = new ArrayList<>((int) (to - from));
+        List<Object[]> userRows = new ArrayList<>();
+        List<Object[]> providerRows = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            int id = (int) (plan.homeBase + i + 1);
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String email = random.nextInt(10) < 7 ? (first + "." + last + id + "@example.com").toLowerCase() : null;
+            Timestamp created = Timestamp.valueOf(plan.firstDay.minusDays(random.nextInt(365))
+                .atTime(random.nextInt(24), random.nextInt(60)));
+            boolean provider = i >= plan.users;
+            // 6 followed by the zero-padded id: unique, and outside the range of real numbers in use
+            String mobile = "6" + String.format("%09d", id);
+            homes.add(new Object[]{id, first + " " + last, email, mobile, plan.passwordHash,
+                provider ? "SERVICE_PROVIDER" : "USER", created});
+
+            if (provider) {
+                int p = (int) (i - plan.users);
+                int type = plan.providerType[p];
+                long price = Math.round(BASE_PRICES[type] * (0.7 + random.nextDouble() * 0.9) / 10) * 10;
+                providerRows.add(new Object[]{id, SERVICE_TYPES[type], random.nextInt(1 + random.nextInt(25)),
+                    BigDecimal.valueOf(price), AVAILABILITY[random.nextInt(AVAILABILITY.length)],
+                    CITIES[plan.providerCity[p]], created});
+            } else {
+                userRows.add(new Object[]{id, CITIES[plan.userCity[(int) i]]});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_HOME, homes, HOME_TYPES);
+        if (!userRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_USER, userRows, USER_TYPES);
+        }
+        if (!providerRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PROVIDER, providerRows, PROVIDER_TYPES);
+        }
+    }
+
+    private void writeBookings(Plan plan, int chunk, long from, long to, AtomicLong notificationCount, AtomicLong reviewCount) {
+        SplittableRandom random = random(BOOKING_STREAM, chunk);
+        List<Object[]> bookings = new ArrayList<>((int) (to - from));
+        List<Object[]> notifications = new ArrayList<>();
+        List<Object[]> reviews = new ArrayList<>();
+        // Scratch objects for the notification texts of the booking flow
+        Booking booking = new Booking();
+        Notification described = new Notification();
+
+        for (long i = from; i < to; i++) {
+            int provider = plan.providers.sample(random);
+            int city = plan.providerCity[provider];
+            int user = plan.userSamplers[city] != null
+                ? plan.usersByCity[city][plan.userSamplers[city].sample(random)]
+                : plan.anyUser.sample(random);
+
+            int bookingId = (int) (plan.bookingBase + i + 1);
+            int userId = plan.homeBase + user + 1;
+            int providerId = plan.homeBase + plan.users + provider + 1;
+            String serviceType = SERVICE_TYPES[plan.providerType[provider]];
+            LocalDate date = plan.firstDay.plusDays(plan.days.sample(random));
+            LocalTime time = LocalTime.of(8 + HOURS.sample(random), random.nextBoolean() ? 0 : 30);
+            LocalDateTime at = date.atTime(time);
+            Booking.BookingStatus status = date.isBefore(plan.anchor)
+                ? PAST_STATUSES[PAST.sample(random)]
+                : FUTURE_STATUSES[FUTURE.sample(random)];
+
+            // Booked up to two weeks ahead, mostly within a day or two
+            long leadMinutes = 30 + (long) (random.nextDouble() * random.nextDouble() * 14 * 24 * 60);
+            LocalDateTime created = earliest(at.minusMinutes(leadMinutes), plan.cap.minusMinutes(1 + random.nextInt(600)));
+            LocalDateTime updated = switch (status) {
+                case PENDING -> created;
+                case ACCEPTED, CONFIRMED, REJECTED -> created.plusMinutes(5 + random.nextInt(24 * 60));
+                case COMPLETED -> at.plusMinutes(60 + random.nextInt(180));
+                case PAID -> at.plusMinutes(120 + random.nextInt(48 * 60));
+                case CANCELLED -> created.plusMinutes((long) (random.nextDouble() * Duration.between(created, at).toMinutes()));
+            };
+            updated = beforeCap(updated, created, plan, random);
+            if (updated.isBefore(created)) {
+                updated = created;
+            }
+            bookings.add(new Object[]{bookingId, userId, providerId, serviceType, Date.valueOf(date), Time.valueOf(time),
+                status.name(), Timestamp.valueOf(created), Timestamp.valueOf(updated)});
+
+            if (properties.isNotifications()) {
+                booking.setUserId(userId);
+                booking.setServiceType(serviceType);
+                booking.setBookingDate(date);
+                booking.setBookingTime(time);
+                int notificationId = (int) (plan.notificationBase + 2 * i + 1);
+                notifications.add(new Object[]{notificationId, providerId, "PROVIDER",
+                    BookingService.bookingRequestMessage(booking), "BOOKING_REQUEST", readStatus(random, created, plan),
+                    bookingId, Timestamp.valueOf(created), Timestamp.valueOf(created)});
+                if (status == Booking.BookingStatus.CANCELLED) {
+                    notifications.add(new Object[]{notificationId + 1, providerId, "PROVIDER",
+                        BookingService.cancellationMessage(booking, userId), "BOOKING_CANCELLED",
+                        readStatus(random, updated, plan), bookingId, Timestamp.valueOf(updated), Timestamp.valueOf(updated)});
+                } else if (status != Booking.BookingStatus.PENDING) {
+                    BookingService.describeStatusChange(described, booking, status);
+                    notifications.add(new Object[]{notificationId + 1, userId, "USER", described.getMessage(),
+                        described.getType(), readStatus(random, updated, plan), bookingId,
+                        Timestamp.valueOf(updated), Timestamp.valueOf(updated)});
+                }
+            }
+
+            boolean reviewable = status == Booking.BookingStatus.COMPLETED || status == Booking.BookingStatus.PAID;
+            if (reviewable && random.nextDouble() < properties.getReviewRate()) {
+                int rating = 1 + RATINGS.sample(random);
+                String[] comments = COMMENTS[rating - 1];
+                String comment = random.nextInt(10) < 4 ? null : comments[random.nextInt(comments.length)];
+                Timestamp reviewed = Timestamp.valueOf(beforeCap(updated.plusMinutes(10 + random.nextInt(72 * 60)), updated, plan, random));
+                reviews.add(new Object[]{(int) (plan.reviewBase + i + 1), bookingId, userId, providerId, rating, comment,
+                    reviewed, reviewed});
+            }
+        }
+
+        write(BOOKINGS, bookings);
+        write(NOTIFICATIONS, notifications);
+        notificationCount.addAndGet(notifications.size());
+        write(REVIEWS, reviews);
+        reviewCount.addAndGet(reviews.size());
+    }
+
+    private void write(LoadTarget target, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (properties.isLoadData()) {
+            loadData(target, rows);
+        } else {
+            jdbcTemplate.batchUpdate(target.insert(), rows, target.types());
+        }
+    }
+
+    // LOAD DATA LOCAL INFILE from a tab-separated file: the server reads plain values, where a
+    // batch insert has the driver bind every parameter and render it into the rewritten statement.
+    // Connector/J only sends files from datagen.load-directory (allowLoadLocalInfileInPath).
+    private void loadData(LoadTarget target, List<Object[]> rows) {
+        Path file = null;
+        try {
+            file = Files.createTempFile(Path.of(properties.getLoadDirectory()), target.table(), ".tsv");
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                StringBuilder line = new StringBuilder(256);
+                for (Object[] row : rows) {
+                    line.setLength(0);
+                    for (int c = 0; c < row.length; c++) {
+                        if (c > 0) {
+                            line.append('\t');
+                        }
+                        appendField(line, row[c]);
+                    }
+                    out.append(line).append('\n');
+                }
+            }
+            String sql = "load data local infile '" + file.toAbsolutePath().toString().replace('\\', '/')
+                + "' into table " + target.table() + " character set utf8mb4"
+                + " fields terminated by '\\t' escaped by '\\\\' lines terminated by '\\n' (" + target.columns() + ")";
+            Integer loaded = jdbcTemplate.execute((StatementCallback<Integer>) statement -> statement.executeUpdate(sql));
+            // LOCAL turns bad values and duplicate keys into warnings, so count what went in
+            if (loaded == null || loaded != rows.size()) {
+                throw new IllegalStateException("LOAD DATA into " + target.table() + " took " + loaded + " of " + rows.size() + " rows");
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write the LOAD DATA file for " + target.table() + ": " + e.getMessage(), e);
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    System.err.println("⚠️ Failed to delete " + file + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    // The escapes of LOAD DATA's default format: \N for NULL, backslash before the delimiters.
+    // Timestamps go in as UTC, as the driver stores them under the serverTimezone=UTC of the URL.
+    private static void appendField(StringBuilder line, Object value) {
+        if (value == null) {
+            line.append("\\N");
+            return;
+        }
+        if (value instanceof Timestamp timestamp) {
+            line.append(Timestamp.valueOf(LocalDateTime.ofInstant(timestamp.toInstant(), ZoneOffset.UTC)));
+            return;
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            switch (ch) {
+                case '\\', '\t', '\n' -> line.append('\\').append(ch);
+                case '\r' -> line.append("\\r");
+                default -> line.append(ch);
+            }
+        }
+    }
+
+    // Older notifications have mostly been read
+    private static String readStatus(SplittableRandom random, LocalDateTime sent, Plan plan) {
+        boolean old = sent.isBefore(plan.cap.minusDays(7));
+        return random.nextInt(10) < (old ? 9 : 4) ? "READ" : "UNREAD";
+    }
+
+    // A change due after the cap happened at a random moment between since and the cap instead, so
+    // such rows spread over that window rather than all sharing the cap as their change stamp
+    private static LocalDateTime beforeCap(LocalDateTime at, LocalDateTime since, Plan plan, SplittableRandom random) {
+        if (at.isBefore(plan.cap)) {
+            return at;
+        }
+        long window = Duration.between(since, plan.cap).toSeconds();
+        return window > 0 ? since.plusSeconds(random.nextLong(window)) : since;
+    }
+
+    private static LocalDateTime earliest(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    // Drops the non-unique secondary indexes of the bulk-loaded tables and records, per table, the
+    // ALTER TABLE that adds them back. Maintaining them row by row costs more than one sorted build
+    // after the load. Only MySQL/MariaDB are handled; elsewhere the load keeps its indexes.
+    private void dropSecondaryIndexes(Map<String, String> restore) {
+        List<Map<String, Object>> indexes;
+        try {
+            indexes = jdbcTemplate.queryForList("select table_name as tbl, index_name as idx, group_concat(concat('`', column_name, '`', "
+                + "coalesce(concat('(', sub_part, ')'), '')) order by seq_in_index separator ', ') as cols "
+                + "from information_schema.statistics where table_schema = database() and table_name in " + IN_LOADED_TABLES
+                + " and non_unique = 1 group by table_name, index_name order by table_name, index_name");
+        } catch (Exception e) {
+            System.err.println("⚠️ Failed to list the secondary indexes, loading with them in place: " + e.getMessage());
+            return;
+        }
+        Map<String, List<String>> drops = new LinkedHashMap<>();
+        Map<String, List<String>> adds = new LinkedHashMap<>();
+        for (Map<String, Object> index : indexes) {
+            String table = (String) index.get("tbl");
+            String name = (String) index.get("idx");
+            drops.computeIfAbsent(table, t -> new ArrayList<>()).add("drop index `" + name + "`");
+            adds.computeIfAbsent(table, t -> new ArrayList<>()).add("add index `" + name + "` (" + index.get("cols") + ")");
+        }
+        for (Map.Entry<String, List<String>> table : drops.entrySet()) {
+            String add = "alter table `" + table.getKey() + "` " + String.join(", ", adds.get(table.getKey()));
+            // Printed first so that a load killed half-way can be repaired by hand
+            System.out.println("Deferring indexes until after the load: " + add);
+            jdbcTemplate.execute("alter table `" + table.getKey() + "` " + String.join(", ", table.getValue()));
+            restore.put(table.getKey(), add);
+        }
+    }
+
+    private void restoreIndexes(Map<String, String> restore) {
+        for (Map.Entry<String, String> table : restore.entrySet()) {
+            long started = System.currentTimeMillis();
+            try {
+                jdbcTemplate.execute(table.getValue());
+                System.out.println("Indexes of " + table.getKey() + " rebuilt in " + (System.currentTimeMillis() - started) + " ms");
+            } catch (Exception e) {
+                System.err.println("⚠️ Failed to rebuild the indexes of " + table.getKey() + ", run by hand: " + table.getValue()
+                    + " (" + e.getMessage() + ")");
+            }
+        }
+    }
+
+    // Splits [0, total) into chunks of datagen.chunk-size, each written in its own transaction
+    private void inChunks(String label, long total, ChunkWriter writer) {
+        if (total == 0) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        int chunks = (int) ((total + chunkSize - 1) / chunkSize);
+        int reportEvery = Math.max(1, chunks / 10);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        AtomicLong done = new AtomicLong();
+        ExecutorService writers = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int c = 0; c < chunks; c++) {
+                int chunk = c;
+                long from = (long) chunk * chunkSize;
+                long to = Math.min(total, from + chunkSize);
+                futures.add(writers.submit(() -> {
+                    transaction.executeWithoutResult(status -> writer.write(chunk, from, to));
+                    long finished = done.incrementAndGet();
+                    if (finished % reportEvery == 0 || finished == chunks) {
+                        long elapsed = Math.max(1, System.currentTimeMillis() - started);
+                        long rows = Math.min(total, finished * chunkSize);
+                        System.out.println(label + ": " + rows + " / " + total + " (" + rows * 1000 / elapsed + " rows/s)");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(label + " failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(label + " interrupted", e);
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    // Takes count ids from a table generator segment; the stored value is the last id handed out
+    private long reserve(String segment, long count) {
+        Long last = new TransactionTemplate(transactionManager).execute(status -> {
+            Long current = jdbcTemplate.queryForObject("select " + PooledTableIdGenerator.VALUE_COLUMN + " from "
+                + PooledTableIdGenerator.TABLE + " where " + PooledTableIdGenerator.SEGMENT_COLUMN + " = ? for update",
+                Long.class, segment);
+            long value = current != null ? current : 0;
+            jdbcTemplate.update("update " + PooledTableIdGenerator.TABLE + " set " + PooledTableIdGenerator.VALUE_COLUMN
+                + " = ? where " + PooledTableIdGenerator.SEGMENT_COLUMN + " = ?", value + count, segment);
+            return value;
+        });
+        return last != null ? last : 0;
+    }
+
+    private SplittableRandom random(long stream, long chunk) {
+        return new SplittableRandom(properties.getSeed() ^ (stream << 56) ^ (chunk * 0x9E3779B97F4A7C15L));
+    }
+}
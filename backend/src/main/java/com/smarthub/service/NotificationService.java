@@ -1,40 +1,67 @@
 package com.smarthub.service;
 
+import com.smarthub.config.Bulkhead;
+import com.smarthub.dto.CollectionVersion;
+import com.smarthub.dto.NotificationView;
 import com.smarthub.entity.Notification;
 import com.smarthub.exception.ResourceNotFoundException;
 import com.smarthub.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
+@Bulkhead(Bulkhead.BOOKING)
 public class NotificationService {
     
     @Autowired
     private NotificationRepository notificationRepository;
     
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
     // Create a new notification
+    @Transactional
     public Notification createNotification(Notification notification) {
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        Counter.builder("smarthub.notifications.created")
+            .description("Notifications written, by type")
+            .tag("type", saved.getType() != null ? saved.getType() : "NONE")
+            .register(meterRegistry)
+            .increment();
+        return saved;
     }
     
     // Get all notifications for a receiver
-    public List<Notification> getNotificationsByReceiverId(Integer receiverId) {
-        return notificationRepository.findByReceiverIdOrderByCreatedAtDesc(receiverId);
+    @Bulkhead(Bulkhead.READ)
+    public List<NotificationView> getNotificationsByReceiverId(Integer receiverId) {
+        return notificationRepository.findViewsByReceiverId(receiverId);
+    }
+    
+    // Version of a receiver's notifications, for conditional GETs
+    @Bulkhead(Bulkhead.READ)
+    public CollectionVersion getVersion(Integer receiverId) {
+        return notificationRepository.versionByReceiverId(receiverId);
     }
     
     // Get unread notifications for a receiver
-    public List<Notification> getUnreadNotifications(Integer receiverId) {
-        return notificationRepository.findByReceiverIdAndStatusOrderByCreatedAtDesc(receiverId, "UNREAD");
+    @Bulkhead(Bulkhead.READ)
+    public List<NotificationView> getUnreadNotifications(Integer receiverId) {
+        return notificationRepository.findViewsByReceiverIdAndStatus(receiverId, "UNREAD");
     }
     
     // Get count of unread notifications
+    @Bulkhead(Bulkhead.READ)
     public Long getUnreadCount(Integer receiverId) {
         return notificationRepository.countByReceiverIdAndStatus(receiverId, "UNREAD");
     }
     
     // Mark notification as read
+    @Transactional
     public Notification markAsRead(Integer notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Notification not found with id: " + notificationId));
@@ -43,6 +70,7 @@ public class NotificationService {
     }
     
     // Mark all notifications as read for a receiver
+    @Transactional
     public void markAllAsRead(Integer receiverId) {
         List<Notification> notifications = notificationRepository.findByReceiverIdAndStatusOrderByCreatedAtDesc(receiverId, "UNREAD");
         notifications.forEach(n -> n.setStatus("READ"));
@@ -50,6 +78,7 @@ public class NotificationService {
     }
     
     // Delete notification
+    @Transactional
     public void deleteNotification(Integer notificationId) {
         notificationRepository.deleteById(notificationId);
     }
@@ -0,0 +1,98 @@
+package com.smarthub.service;
+
+import com.smarthub.exception.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Salted BCrypt hashing with a configurable cost (auth.password.bcrypt-cost).
+ *
+ * All hashing runs on the bounded passwordExecutor so a login spike can only occupy as many cores
+ * as the pool has threads; once its queue is full new attempts fail fast with ServiceBusyException.
+ * Stored values that are not BCrypt hashes are treated as legacy plaintext and, like hashes made
+ * with a different cost, are reported by needsRehash so the caller can upgrade them after a
+ * successful login.
+ */
+@Service
+public class PasswordService {
+    
+    private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./A-Za-z0-9]{53}$");
+    
+    private final BCryptPasswordEncoder encoder;
+    private final int cost;
+    
+    // Verified against when the account does not exist so both paths take the same time
+    private final String dummyHash;
+    
+    @Autowired
+    @Qualifier("passwordExecutor")
+    private Executor passwordExecutor;
+    
+    @Value("${auth.password.timeout-ms:5000}")
+    private long timeoutMs;
+    
+    public PasswordService(@Value("${auth.password.bcrypt-cost:10}") int cost) {
+        this.cost = cost;
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.dummyHash = encoder.encode("dummy-password-for-timing");
+    }
+    
+    public String hash(String rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+    
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (storedPassword == null || !isHash(storedPassword)) {
+            // Legacy plaintext row; constant-time compare
+            return storedPassword != null && MessageDigest.isEqual(
+                rawPassword.getBytes(StandardCharsets.UTF_8), storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return run(() -> encoder.matches(rawPassword, storedPassword));
+    }
+    
+    // Burns one verification so unknown accounts are not distinguishable by response time
+    public void simulateMatch(String rawPassword) {
+        run(() -> encoder.matches(rawPassword, dummyHash));
+    }
+    
+    public boolean needsRehash(String storedPassword) {
+        Matcher matcher = storedPassword != null ? BCRYPT.matcher(storedPassword) : null;
+        return matcher == null || !matcher.matches() || Integer.parseInt(matcher.group(1)) != cost;
+    }
+    
+    private boolean isHash(String storedPassword) {
+        return BCRYPT.matcher(storedPassword).matches();
+    }
+    
+    private <T> T run(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        try {
+            passwordExecutor.execute(future);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("Too many sign-in attempts in progress. Please retry shortly.");
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException("Too many sign-in attempts in progress. Please retry shortly.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Password check interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
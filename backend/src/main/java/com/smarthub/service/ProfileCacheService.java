@@ -0,0 +1,81 @@
+package com.smarthub.service;
+
+import com.smarthub.config.SecondLevelCacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Second-level cache maintenance and statistics for the profile entities.
+ *
+ * Writes through JPA keep the cache correct on their own. Writes through plain JDBC (the provider
+ * CSV import) bypass Hibernate, so they must call {@link #evictQueryResults()} afterwards or a
+ * cached "no row for this mobile" lookup could outlive the insert.
+ */
+@Service
+public class ProfileCacheService {
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private CacheManager hibernateCacheManager;
+    
+    public void evictQueryResults() {
+        try {
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        } catch (Exception e) {
+            System.err.println("⚠️ Failed to evict cached query results: " + e.getMessage());
+        }
+    }
+    
+    public Map<String, Object> getStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", statistics.isStatisticsEnabled());
+        
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (Class<?> entity : SecondLevelCacheConfig.CACHED_ENTITIES) {
+            regions.put(entity.getSimpleName(), region(entity.getName(), statistics.getDomainDataRegionStatistics(entity.getName())));
+        }
+        regions.put("queries", region(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+            statistics.getQueryRegionStatistics(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME)));
+        stats.put("regions", regions);
+        
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long misses = statistics.getSecondLevelCacheMissCount();
+        stats.put("entityHits", hits);
+        stats.put("entityMisses", misses);
+        stats.put("entityHitRatio", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+        long queryHits = statistics.getQueryCacheHitCount();
+        long queryMisses = statistics.getQueryCacheMissCount();
+        stats.put("queryHits", queryHits);
+        stats.put("queryMisses", queryMisses);
+        stats.put("queryHitRatio", queryHits + queryMisses > 0 ? (double) queryHits / (queryHits + queryMisses) : 0.0);
+        return stats;
+    }
+    
+    private Map<String, Object> region(String name, CacheRegionStatistics region) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (region != null) {
+            stats.put("hits", region.getHitCount());
+            stats.put("misses", region.getMissCount());
+            stats.put("puts", region.getPutCount());
+        }
+        // The JCache region cannot count its entries, the underlying Caffeine cache can
+        Cache<Object, Object> cache = hibernateCacheManager.getCache(name);
+        if (cache != null) {
+            stats.put("entries", cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize());
+        }
+        return stats;
+    }
+}
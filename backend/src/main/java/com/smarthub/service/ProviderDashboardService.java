@@ -0,0 +1,134 @@
+package com.smarthub.service;
+
+import com.smarthub.config.Bulkhead;
+import com.smarthub.config.BulkheadAspect;
+import com.smarthub.dto.BookingView;
+import com.smarthub.dto.ProviderDashboardResponse;
+import com.smarthub.dto.RatingSummary;
+import com.smarthub.entity.Booking;
+import com.smarthub.exception.ResourceNotFoundException;
+import com.smarthub.repository.BookingRepository;
+import com.smarthub.repository.NotificationRepository;
+import com.smarthub.repository.ReviewRepository;
+import com.smarthub.repository.ServiceProviderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Builds the provider dashboard in one round trip.
+ *
+ * The aggregates are independent, so each runs as its own query on the query executor and the
+ * response is assembled once all of them complete. Each query takes its own read permit on the
+ * executor thread; the calling thread holds none while it waits for them.
+ *
+ * A batch sub-request uses getDashboardInBatch instead: the same queries one after another on the
+ * batch lane's thread, so the dashboard holds one read permit at a time like every other route.
+ */
+@Service
+public class ProviderDashboardService {
+    
+    private static final Set<Booking.BookingStatus> EARNING_STATUSES =
+        EnumSet.of(Booking.BookingStatus.COMPLETED, Booking.BookingStatus.PAID);
+    
+    private static final Set<Booking.BookingStatus> UPCOMING_STATUSES =
+        EnumSet.of(Booking.BookingStatus.PENDING, Booking.BookingStatus.ACCEPTED, Booking.BookingStatus.CONFIRMED);
+    
+    private static final int MAX_UPCOMING_DAYS = 90;
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Autowired
+    private ReviewRepository reviewRepository;
+    
+    @Autowired
+    private NotificationRepository notificationRepository;
+    
+    @Autowired
+    private ServiceProviderRepository serviceProviderRepository;
+    
+    @Autowired
+    private BulkheadAspect bulkheadAspect;
+    
+    @Autowired
+    @Qualifier("queryExecutor")
+    private Executor queryExecutor;
+    
+    public ProviderDashboardResponse getDashboard(Integer providerId, int days) {
+        return getDashboard(providerId, days, queryExecutor);
+    }
+    
+    public ProviderDashboardResponse getDashboardInBatch(Integer providerId, int days) {
+        return getDashboard(providerId, days, Runnable::run);
+    }
+    
+    private ProviderDashboardResponse getDashboard(Integer providerId, int days, Executor executor) {
+        if (days < 1 || days > MAX_UPCOMING_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + MAX_UPCOMING_DAYS);
+        }
+        if (!bulkheadAspect.call(Bulkhead.READ, () -> serviceProviderRepository.existsById(providerId))) {
+            throw new ResourceNotFoundException("Provider not found with id: " + providerId);
+        }
+        
+        LocalDate today = LocalDate.now();
+        
+        CompletableFuture<List<Object[]>> statusCounts = query(executor, () -> bookingRepository.countByStatusForProvider(providerId));
+        CompletableFuture<List<BookingView>> upcoming = query(executor,
+            () -> bookingRepository.findUpcomingViewsByProviderId(providerId, UPCOMING_STATUSES, today, today.plusDays(days)));
+        CompletableFuture<BigDecimal> price = query(executor,
+            () -> serviceProviderRepository.findPriceById(providerId).orElse(BigDecimal.ZERO));
+        CompletableFuture<RatingSummary> rating = query(executor, () -> reviewRepository.summarizeByProviderId(providerId));
+        CompletableFuture<Long> unread = query(executor, () -> notificationRepository.countByReceiverIdAndStatus(providerId, "UNREAD"));
+        
+        try {
+            CompletableFuture.allOf(statusCounts, upcoming, price, rating, unread).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        
+        Map<Booking.BookingStatus, Long> byStatus = new EnumMap<>(Booking.BookingStatus.class);
+        long totalBookings = 0;
+        long earningBookings = 0;
+        for (Object[] row : statusCounts.join()) {
+            Booking.BookingStatus status = (Booking.BookingStatus) row[0];
+            long count = (Long) row[1];
+            byStatus.put(status, count);
+            totalBookings += count;
+            if (EARNING_STATUSES.contains(status)) {
+                earningBookings += count;
+            }
+        }
+        
+        ProviderDashboardResponse response = new ProviderDashboardResponse();
+        response.setProviderId(providerId);
+        response.setBookingsByStatus(byStatus);
+        response.setTotalBookings(totalBookings);
+        response.setUpcomingDays(days);
+        response.setUpcomingBookings(upcoming.join());
+        response.setEarnings(price.join().multiply(BigDecimal.valueOf(earningBookings)));
+        
+        RatingSummary summary = rating.join();
+        response.setAverageRating(summary != null ? summary.getAverage() : null);
+        response.setReviewCount(summary != null && summary.getCount() != null ? summary.getCount() : 0L);
+        
+        Long unreadCount = unread.join();
+        response.setUnreadNotifications(unreadCount != null ? unreadCount : 0L);
+        return response;
+    }
+    
+    private <T> CompletableFuture<T> query(Executor executor, Supplier<T> work) {
+        return CompletableFuture.supplyAsync(() -> bulkheadAspect.call(Bulkhead.READ, work), executor);
+    }
+}
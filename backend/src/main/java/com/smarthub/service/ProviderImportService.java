@@ -0,0 +1,434 @@
+package com.smarthub.service;
+
+import com.smarthub.config.Bulkhead;
+import com.smarthub.dto.ImportRowError;
+import com.smarthub.dto.ProviderImportResult;
+import com.smarthub.validation.EmailValidator;
+import com.smarthub.validation.MobileNumberValidator;
+import com.smarthub.validation.PasswordValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Bulk-onboards service providers from a CSV upload.
+ *
+ * Rows are validated up front, checked for duplicates within the file and against home with one
+ * IN query per chunk, then written with JDBC batch inserts (home first, using the generated keys
+ * for service_provider.provider_id). Each chunk commits on its own, so a bad row never costs more than
+ * its chunk; if a chunk still hits a unique constraint (a concurrent signup) it is replayed row by
+ * row to pin the error on the right line. A record the CSV reader cannot parse (an unterminated
+ * quote) is reported as a failed row too, and reading resumes on the line after the one it
+ * started on, so a broken record in the middle of the file never ends the import half done.
+ *
+ * Columns (header row required, any order, case-insensitive): fullName, mobile, email, password,
+ * serviceType, experience, price, availability, location. Rows without a password use the
+ * defaultPassword parameter. Identical passwords are hashed once per import, so a shared
+ * temporary password keeps large imports fast; distinct passwords cost one BCrypt hash each.
+ */
+@Service
+@Bulkhead(Bulkhead.ADMIN)
+public class ProviderImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_HOME =
+        "insert into home (full_name, email, mobile, password, role, created_at) values (?, ?, ?, ?, 'SERVICE_PROVIDER', ?)";
+    private static final String INSERT_PROVIDER =
+        "insert into service_provider (provider_id, service_type, experience, price, availability, location, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private static class Row {
+        int line;
+        String fullName;
+        String mobile;
+        String email;
+        String password;
+        String serviceType;
+        int experience;
+        BigDecimal price;
+        String availability;
+        String location;
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordService passwordService;
+
+    @Autowired
+    private SignupFilterService signupFilterService;
+
+    @Autowired
+    private ProfileCacheService profileCacheService;
+
+    @Autowired
+    private MobileNumberValidator mobileNumberValidator;
+
+    @Autowired
+    private EmailValidator emailValidator;
+
+    @Autowired
+    private PasswordValidator passwordValidator;
+
+    public ProviderImportResult importCsv(InputStream in, String defaultPassword) throws IOException {
+        long started = System.currentTimeMillis();
+        if (defaultPassword != null && !defaultPassword.isEmpty() && !passwordValidator.isValid(defaultPassword)) {
+            throw new IllegalArgumentException("defaultPassword: " + passwordValidator.getErrorMessage());
+        }
+
+        ProviderImportResult result = new ProviderImportResult();
+        Map<String, String> hashes = new HashMap<>();
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(), i);
+        }
+        if (!columns.containsKey("fullname") || !columns.containsKey("mobile")) {
+            throw new IllegalArgumentException("CSV header must include fullName and mobile columns");
+        }
+
+        Set<String> seenMobiles = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (true) {
+            List<String> record;
+            try {
+                record = reader.next();
+            } catch (IllegalArgumentException e) {
+                result.setTotalRows(result.getTotalRows() + 1);
+                fail(result, reader.getRecordLine(), null, e.getMessage());
+                continue;
+            }
+            if (record == null) {
+                break;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            result.setTotalRows(result.getTotalRows() + 1);
+            int line = reader.getRecordLine();
+            String mobile = field(record, columns, "mobile");
+            try {
+                Row row = parse(record, columns, defaultPassword, line);
+                if (!seenMobiles.add(row.mobile)) {
+                    throw new IllegalArgumentException("Mobile number appears more than once in the file");
+                }
+                if (row.email != null && !seenEmails.add(row.email.toLowerCase())) {
+                    throw new IllegalArgumentException("Email appears more than once in the file");
+                }
+                chunk.add(row);
+            } catch (IllegalArgumentException e) {
+                fail(result, line, mobile, e.getMessage());
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                writeChunk(chunk, hashes, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, hashes, result);
+        }
+        if (result.getImported() > 0) {
+            // The inserts bypassed Hibernate, so cached login lookups may still say "not found"
+            profileCacheService.evictQueryResults();
+        }
+
+        result.setElapsedMs(System.currentTimeMillis() - started);
+        System.out.println("Provider import: " + result.getImported() + " imported, " + result.getFailed()
+            + " failed in " + result.getElapsedMs() + " ms");
+        return result;
+    }
+
+    private Row parse(List<String> record, Map<String, Integer> columns, String defaultPassword, int line) {
+        Row row = new Row();
+        row.line = line;
+        row.fullName = field(record, columns, "fullname");
+        row.mobile = field(record, columns, "mobile");
+        row.email = field(record, columns, "email");
+        row.password = field(record, columns, "password");
+        row.serviceType = Objects.requireNonNullElse(field(record, columns, "servicetype"), "");
+        row.availability = Objects.requireNonNullElse(field(record, columns, "availability"), "");
+        row.location = Objects.requireNonNullElse(field(record, columns, "location"), "");
+
+        if (row.fullName == null) {
+            throw new IllegalArgumentException("Full name is required");
+        }
+        if (!mobileNumberValidator.isValid(row.mobile)) {
+            throw new IllegalArgumentException("Invalid mobile number. Must be 10 digits.");
+        }
+        if (!emailValidator.isValid(row.email)) {
+            throw new IllegalArgumentException("Invalid email format");
+        }
+        if (row.password == null) {
+            row.password = defaultPassword != null && !defaultPassword.isEmpty() ? defaultPassword : null;
+            if (row.password == null) {
+                throw new IllegalArgumentException("Password is required (no defaultPassword given)");
+            }
+        } else if (!passwordValidator.isValid(row.password)) {
+            throw new IllegalArgumentException(passwordValidator.getErrorMessage());
+        }
+
+        String experience = field(record, columns, "experience");
+        String price = field(record, columns, "price");
+        try {
+            row.experience = experience != null ? Integer.parseInt(experience) : 0;
+            row.price = price != null ? new BigDecimal(price) : BigDecimal.ZERO;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Experience must be a whole number and price a decimal");
+        }
+        return row;
+    }
+
+    private void writeChunk(List<Row> chunk, Map<String, String> hashes, ProviderImportResult result) {
+        List<Row> rows = withoutExisting(chunk, result);
+        if (rows.isEmpty()) {
+            return;
+        }
+        for (Row row : rows) {
+            row.password = hashes.computeIfAbsent(row.password, passwordService::hash);
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            transaction.executeWithoutResult(status -> insert(rows));
+            result.setImported(result.getImported() + rows.size());
+            rows.forEach(row -> signupFilterService.add(row.mobile, row.email));
+        } catch (DataIntegrityViolationException e) {
+            // Someone registered one of these mobiles/emails after the pre-check; find which row
+            for (Row row : rows) {
+                try {
+                    transaction.executeWithoutResult(status -> insert(List.of(row)));
+                    result.setImported(result.getImported() + 1);
+                    signupFilterService.add(row.mobile, row.email);
+                } catch (DataIntegrityViolationException rowError) {
+                    fail(result, row.line, row.mobile, AuthService.duplicateMessage(rowError));
+                }
+            }
+        }
+    }
+
+    // Drops rows whose mobile or email is already in home, with one IN query per column
+    private List<Row> withoutExisting(List<Row> chunk, ProviderImportResult result) {
+        List<String> mobiles = chunk.stream().map(r -> r.mobile).toList();
+        List<String> emails = chunk.stream().map(r -> r.email).filter(Objects::nonNull).toList();
+
+        Set<String> existingMobiles = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+            "select mobile from home where mobile in (:values)", new MapSqlParameterSource("values", mobiles), String.class));
+        Set<String> existingEmails = new HashSet<>();
+        if (!emails.isEmpty()) {
+            namedParameterJdbcTemplate.queryForList(
+                "select email from home where email in (:values)", new MapSqlParameterSource("values", emails), String.class)
+                .forEach(email -> existingEmails.add(email.toLowerCase()));
+        }
+
+        List<Row> rows = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (existingMobiles.contains(row.mobile)) {
+                fail(result, row.line, row.mobile, "Mobile number already registered");
+            } else if (row.email != null && existingEmails.contains(row.email.toLowerCase())) {
+                fail(result, row.line, row.mobile, "Email already registered");
+            } else {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private void insert(List<Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> homeIds = jdbcTemplate.execute((ConnectionCallback<List<Integer>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_HOME, Statement.RETURN_GENERATED_KEYS)) {
+                for (Row row : rows) {
+                    ps.setString(1, row.fullName);
+                    ps.setString(2, row.email);
+                    ps.setString(3, row.mobile);
+                    ps.setString(4, row.password);
+                    ps.setTimestamp(5, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                List<Integer> ids = new ArrayList<>(rows.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getInt(1));
+                    }
+                }
+                return ids;
+            }
+        });
+        if (homeIds == null || homeIds.size() != rows.size()) {
+            throw new IllegalStateException("Driver returned " + (homeIds == null ? 0 : homeIds.size())
+                + " generated keys for " + rows.size() + " home rows");
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PROVIDER, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Row row = rows.get(i);
+                // The provider row shares the id of its home row
+                ps.setInt(1, homeIds.get(i));
+                ps.setString(2, row.serviceType);
+                ps.setInt(3, row.experience);
+                ps.setBigDecimal(4, row.price);
+                ps.setString(5, row.availability);
+                ps.setString(6, row.location);
+                ps.setTimestamp(7, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private void fail(ProviderImportResult result, int line, String mobile, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new ImportRowError(line, mobile, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    // Minimal RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks.
+    // A record with an unterminated quote throws, and the next call resumes on the line after the
+    // one that record started on.
+    private static class CsvReader {
+        private final Reader reader;
+        private int line = 1;
+        private int recordLine;
+        private int peeked = -2;
+        // Characters of the current record, replayed after the first line if it turns out malformed
+        private final StringBuilder raw = new StringBuilder();
+        private String replay = "";
+        private int replayAt;
+
+        CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        int getRecordLine() {
+            return recordLine;
+        }
+
+        List<String> next() throws IOException {
+            raw.setLength(0);
+            if (peeked >= 0) {
+                raw.append((char) peeked);
+            }
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        int newline = raw.indexOf("\n");
+                        replay = newline >= 0 ? raw.substring(newline + 1) : "";
+                        replayAt = 0;
+                        line = recordLine + 1;
+                        throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                    }
+                    if (c == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = following;
+                            continue;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int following = read();
+                        if (following != '\n') {
+                            peeked = following;
+                        }
+                    }
+                    if (c != -1) {
+                        line++;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (peeked != -2) {
+                int c = peeked;
+                peeked = -2;
+                return c;
+            }
+            int c = replayAt < replay.length() ? replay.charAt(replayAt++) : reader.read();
+            if (c != -1) {
+                raw.append((char) c);
+            }
+            return c;
+        }
+    }
+}
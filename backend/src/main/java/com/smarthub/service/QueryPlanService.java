@@ -0,0 +1,316 @@
+package com.smarthub.service;
+
+import com.smarthub.config.Bulkhead;
+import com.smarthub.entity.Booking;
+import com.smarthub.entity.BookingStat;
+import com.smarthub.entity.Home;
+import com.smarthub.repository.BookingRepository;
+import com.smarthub.repository.BookingStatRepository;
+import com.smarthub.repository.ComplaintStatRepository;
+import com.smarthub.repository.HomeRepository;
+import com.smarthub.repository.NotificationRepository;
+import com.smarthub.repository.ReviewRepository;
+import com.smarthub.repository.ServiceProviderRepository;
+import com.smarthub.repository.ServiceScheduleRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Runs EXPLAIN over the SQL behind each request-path repository query and reports whether MySQL
+ * reads it through an index. The check runs once at startup, where a missing index only produces
+ * a warning, and on demand from GET /api/admin/query-plans.
+ *
+ * The SQL is not copied by hand: each repository method is called once on a session whose
+ * connection records every statement Hibernate prepares and the values it binds, and that exact
+ * statement is explained. The calls run on the primary with the caches bypassed and are rolled
+ * back. A query counts as unindexed when any table in its plan is read with a full scan
+ * (type=ALL). Full-table reads (findAll, streamAll, substring search) are left out on purpose.
+ */
+@Service
+public class QueryPlanService {
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 1, 31);
+    private static final Pageable PAGE = PageRequest.of(0, 500);
+
+    @Value("${schema.explain-check.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private HomeRepository homeRepository;
+
+    @Autowired
+    private ServiceProviderRepository serviceProviderRepository;
+
+    @Autowired
+    private ServiceScheduleRepository serviceScheduleRepository;
+
+    @Autowired
+    private BookingStatRepository bookingStatRepository;
+
+    @Autowired
+    private ComplaintStatRepository complaintStatRepository;
+
+    // Repository method -> a call with representative parameters
+    private Map<String, Runnable> queries() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("BookingRepository.findViewsByUserId", () -> bookingRepository.findViewsByUserId(1));
+        queries.put("BookingRepository.findViewsByProviderId", () -> bookingRepository.findViewsByProviderId(1));
+        queries.put("BookingRepository.findUpcomingViewsByProviderId",
+            () -> bookingRepository.findUpcomingViewsByProviderId(
+                1, List.of(Booking.BookingStatus.PENDING, Booking.BookingStatus.ACCEPTED), FROM, TO));
+        queries.put("BookingRepository.versionByUserId", () -> bookingRepository.versionByUserId(1));
+        queries.put("BookingRepository.versionByProviderId", () -> bookingRepository.versionByProviderId(1));
+        queries.put("BookingRepository.countByStatusForProvider", () -> bookingRepository.countByStatusForProvider(1));
+        queries.put("BookingRepository.findViewsByUserIdChangedSince",
+            () -> bookingRepository.findViewsByUserIdChangedSince(1, SINCE, 0, PAGE));
+        queries.put("BookingRepository.findViewsByProviderIdChangedSince",
+            () -> bookingRepository.findViewsByProviderIdChangedSince(1, SINCE, 0, PAGE));
+        queries.put("NotificationRepository.findViewsByReceiverId", () -> notificationRepository.findViewsByReceiverId(1));
+        queries.put("NotificationRepository.findViewsByReceiverIdAndStatus",
+            () -> notificationRepository.findViewsByReceiverIdAndStatus(1, "UNREAD"));
+        queries.put("NotificationRepository.countByReceiverIdAndStatus",
+            () -> notificationRepository.countByReceiverIdAndStatus(1, "UNREAD"));
+        queries.put("NotificationRepository.findViewsChangedSince",
+            () -> notificationRepository.findViewsChangedSince(1, "USER", SINCE, 0, PAGE));
+        queries.put("NotificationRepository.versionByReceiverId", () -> notificationRepository.versionByReceiverId(1));
+        queries.put("ReviewRepository.findViewsByProviderId", () -> reviewRepository.findViewsByProviderId(1));
+        queries.put("ReviewRepository.findViewsByUserId", () -> reviewRepository.findViewsByUserId(1));
+        queries.put("ReviewRepository.summarizeByProviderId", () -> reviewRepository.summarizeByProviderId(1));
+        queries.put("ReviewRepository.findViewsByUserIdChangedSince",
+            () -> reviewRepository.findViewsByUserIdChangedSince(1, SINCE, 0, PAGE));
+        queries.put("ReviewRepository.findViewsByProviderIdChangedSince",
+            () -> reviewRepository.findViewsByProviderIdChangedSince(1, SINCE, 0, PAGE));
+        queries.put("HomeRepository.findByMobileAndRole", () -> homeRepository.findByMobileAndRole("9000000000", Home.Role.USER));
+        queries.put("HomeRepository.findByEmail", () -> homeRepository.findByEmail("someone@example.com"));
+        queries.put("ServiceProviderRepository.findPriceById", () -> serviceProviderRepository.findPriceById(1));
+        queries.put("ServiceProviderRepository.version", () -> serviceProviderRepository.version());
+        queries.put("ServiceScheduleRepository.findByProviderId", () -> serviceScheduleRepository.findByProviderId(1));
+        queries.put("BookingStatRepository.countByBucketAndStatus",
+            () -> bookingStatRepository.countByBucketAndStatus(BookingStat.BucketType.DAY, SINCE, SINCE.plusDays(30)));
+        queries.put("ComplaintStatRepository.totalBetween", () -> complaintStatRepository.totalBetween(FROM, TO));
+        return queries;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Map<String, Object>> plans = explainAll();
+            long unindexed = plans.stream().filter(plan -> !(Boolean) plan.get("indexed")).count();
+            plans.stream().filter(plan -> !(Boolean) plan.get("indexed")).forEach(plan ->
+                System.err.println("⚠️ No index for " + plan.get("query") + ": " + plan.get("sql") + " -> " + plan.get("plan")));
+            System.out.println("Query plan check: " + (plans.size() - unindexed) + "/" + plans.size()
+                + " repository queries read through an index");
+        } catch (Exception e) {
+            System.err.println("⚠️ Failed to check query plans: " + e.getMessage());
+        }
+    }
+
+    @Bulkhead(Bulkhead.ADMIN)
+    public List<Map<String, Object>> explainAll() {
+        if (TransactionSynchronizationManager.hasResource(entityManagerFactory)) {
+            throw new IllegalStateException("Query plans must be checked outside a transaction");
+        }
+        List<Map<String, Object>> plans = new ArrayList<>();
+        try (Connection connection = primaryDataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                for (Map.Entry<String, Runnable> query : queries().entrySet()) {
+                    plans.add(explain(connection, query.getKey(), query.getValue()));
+                }
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to explain repository queries: " + e.getMessage(), e);
+        }
+        return plans;
+    }
+
+    private Map<String, Object> explain(Connection connection, String name, Runnable call) throws SQLException {
+        List<RecordedStatement> statements = record(connection, call);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("query", name);
+        RecordedStatement select = statements.stream()
+            .filter(statement -> statement.sql.trim().toLowerCase().startsWith("select"))
+            .findFirst().orElse(null);
+        if (select == null) {
+            result.put("indexed", false);
+            result.put("plan", "no select statement was issued");
+            return result;
+        }
+        result.put("sql", select.sql.replaceAll("\\s+", " "));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + select.sql)) {
+            select.bindTo(explain);
+            try (ResultSet resultSet = explain.executeQuery()) {
+                ResultSetMetaData meta = resultSet.getMetaData();
+                while (resultSet.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        row.put(meta.getColumnLabel(i), resultSet.getObject(i));
+                    }
+                    rows.add(row);
+                }
+            }
+        }
+
+        Map<String, Object> first = rows.isEmpty() ? Map.of() : rows.get(0);
+        if (first.containsKey("possible_keys")) {
+            // MySQL: one row per table, the first being the table the query is driven from.
+            // Rows without a table ("Select tables optimized away", "no matching row in const
+            // table") were answered from an index or a constant lookup and read nothing else.
+            List<Object> fullScans = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                if (row.get("table") != null && "ALL".equals(String.valueOf(row.get("type")))) {
+                    fullScans.add(row.get("table"));
+                }
+            }
+            result.put("indexed", fullScans.isEmpty());
+            result.put("fullScans", fullScans);
+            result.put("key", first.get("key"));
+            result.put("possibleKeys", first.get("possible_keys"));
+            result.put("accessType", first.get("type"));
+            result.put("estimatedRows", first.get("rows"));
+            result.put("plan", first.get("Extra"));
+        } else {
+            // Other databases (e.g. H2 in local runs) return the plan as text
+            String plan = first.values().stream().findFirst().map(String::valueOf).orElse("");
+            result.put("indexed", !plan.contains("tableScan"));
+            result.put("plan", plan.replaceAll("\\s+", " "));
+        }
+        return result;
+    }
+
+    // Runs the repository call on its own session over the recording connection, bound the way
+    // OpenEntityManagerInView binds one, so the shared EntityManager of the repositories uses it
+    private List<RecordedStatement> record(Connection connection, Runnable call) {
+        List<RecordedStatement> statements = new ArrayList<>();
+        Connection recording = recordingConnection(connection, statements::add);
+        Session session = entityManagerFactory.unwrap(SessionFactory.class).withOptions().connection(recording).openSession();
+        session.setCacheMode(CacheMode.IGNORE);
+        session.setDefaultReadOnly(true);
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(session));
+        try {
+            call.run();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            session.close();
+        }
+        return statements;
+    }
+
+    private static Connection recordingConnection(Connection target, Consumer<RecordedStatement> sink) {
+        return (Connection) Proxy.newProxyInstance(QueryPlanService.class.getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("close")) {
+                    // Owned by explainAll(), which rolls it back and closes it
+                    return null;
+                }
+                Object result = invoke(target, method, args);
+                if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement) {
+                    RecordedStatement statement = new RecordedStatement((String) args[0]);
+                    sink.accept(statement);
+                    return recordingStatement((PreparedStatement) result, statement);
+                }
+                return result;
+            });
+    }
+
+    private static PreparedStatement recordingStatement(PreparedStatement target, RecordedStatement statement) {
+        return (PreparedStatement) Proxy.newProxyInstance(QueryPlanService.class.getClassLoader(),
+            new Class<?>[]{PreparedStatement.class},
+            (proxy, method, args) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    statement.bindings.put((Integer) args[0], new Binding(method, args));
+                }
+                return invoke(target, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // A statement as Hibernate prepared it, with the setter call made for each parameter
+    private static class RecordedStatement {
+        final String sql;
+        final Map<Integer, Binding> bindings = new LinkedHashMap<>();
+
+        RecordedStatement(String sql) {
+            this.sql = sql;
+        }
+
+        void bindTo(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings.values()) {
+                try {
+                    binding.method.invoke(statement, binding.args);
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException("Failed to replay parameter " + binding.args[0] + " of " + sql, e);
+                }
+            }
+        }
+    }
+
+    private static class Binding {
+        final Method method;
+        final Object[] args;
+
+        Binding(Method method, Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+    }
+}
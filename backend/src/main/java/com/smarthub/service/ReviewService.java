@@ -0,0 +1,37 @@
+package com.smarthub.service;
+
+import com.smarthub.config.Bulkhead;
+import com.smarthub.dto.ReviewRequest;
+import com.smarthub.dto.ReviewView;
+import com.smarthub.entity.Review;
+import com.smarthub.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Bulkhead(Bulkhead.BOOKING)
+public class ReviewService {
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Transactional
+    public ReviewView addReview(ReviewRequest request) {
+        Review review = new Review();
+        review.setBookingId(request.getBookingId());
+        review.setUserId(request.getUserId());
+        review.setProviderId(request.getProviderId());
+        review.setRating(request.getRating());
+        review.setComment(request.getComment());
+        return ReviewView.from(reviewRepository.save(review));
+    }
+
+    // Reviews by provider stay on ServiceProviderService, next to the profile they are shown with
+    @Bulkhead(Bulkhead.READ)
+    public List<ReviewView> getUserReviews(Integer userId) {
+        return reviewRepository.findViewsByUserId(userId);
+    }
+}
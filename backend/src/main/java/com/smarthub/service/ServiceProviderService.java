@@ -1,6 +1,10 @@
 package com.smarthub.service;
 
-import com.smarthub.entity.Review;
+import com.smarthub.config.Bulkhead;
+import com.smarthub.config.Coalesce;
+import com.smarthub.dto.CollectionVersion;
+import com.smarthub.dto.ProviderView;
+import com.smarthub.dto.ReviewView;
 import com.smarthub.entity.ServiceProvider;
 import com.smarthub.exception.ResourceNotFoundException;
 import com.smarthub.repository.ReviewRepository;
@@ -12,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Service
+@Bulkhead(Bulkhead.SEARCH)
 public class ServiceProviderService {
     
     @Autowired
@@ -20,12 +25,17 @@ public class ServiceProviderService {
     @Autowired
     private ReviewRepository reviewRepository;
     
+    @Autowired
+    private SignupFilterService signupFilterService;
+    
+    @Coalesce
     public ServiceProvider getProfile(Integer id) {
         return serviceProviderRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Provider not found with id: " + id));
     }
     
     @Transactional
+    @Bulkhead(Bulkhead.BOOKING)
     public ServiceProvider updateProfile(Integer id, ServiceProvider updatedProvider) {
         ServiceProvider provider = getProfile(id);
         
@@ -33,8 +43,9 @@ public class ServiceProviderService {
         if (updatedProvider.getFullName() != null) {
             provider.setFullName(updatedProvider.getFullName());
         }
+        // Contact details live on the account row, so uk_home_email applies; store empty as null
         if (updatedProvider.getEmail() != null) {
-            provider.setEmail(updatedProvider.getEmail());
+            provider.setEmail(updatedProvider.getEmail().isEmpty() ? null : updatedProvider.getEmail());
         }
         if (updatedProvider.getMobile() != null) {
             provider.setMobile(updatedProvider.getMobile());
@@ -55,23 +66,24 @@ public class ServiceProviderService {
             provider.setLocation(updatedProvider.getLocation());
         }
         
-        return serviceProviderRepository.save(provider);
+        ServiceProvider saved = serviceProviderRepository.save(provider);
+        signupFilterService.add(saved.getMobile(), saved.getEmail());
+        return saved;
     }
     
-    public List<ServiceProvider> searchProviders(String type, String location) {
-        if (type != null && location != null) {
-            return serviceProviderRepository
-                .findByServiceTypeContainingIgnoreCaseAndLocationContainingIgnoreCase(type, location);
-        } else if (type != null) {
-            return serviceProviderRepository.findByServiceTypeContainingIgnoreCase(type);
-        } else if (location != null) {
-            return serviceProviderRepository.findByLocationContainingIgnoreCase(location);
-        }
-        return serviceProviderRepository.findAll();
+    @Coalesce
+    public CollectionVersion getProvidersVersion() {
+        return serviceProviderRepository.version();
+    }
+    
+    @Coalesce
+    public List<ProviderView> searchProviders(String type, String location) {
+        return serviceProviderRepository.searchViews(type, location);
     }
     
     // ✅ FIXED: Implement getProviderReviews method
-    public List<Review> getProviderReviews(Integer providerId) {
-        return reviewRepository.findByProviderId(providerId);
+    @Coalesce
+    public List<ReviewView> getProviderReviews(Integer providerId) {
+        return reviewRepository.findViewsByProviderId(providerId);
     }
 }
@@ -0,0 +1,141 @@
+package com.smarthub.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory Bloom filters over home.mobile and home.email for the signup duplicate check.
+ *
+ * Most signup attempts use a new mobile/email, and the filter answers those without touching the
+ * database. Only probable positives are confirmed with an exists query. The filters are built once
+ * at startup by streaming the home table and are updated on every registration, profile edit and
+ * import. Home rows are never deleted and a value replaced by an edit only costs a false positive,
+ * so a plain Bloom filter is enough. Until the build finishes every value
+ * counts as a probable positive, so correctness never depends on the filter.
+ */
+@Service
+public class SignupFilterService {
+
+    @Value("${signup.bloom.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${signup.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile BloomFilter mobiles;
+    private volatile BloomFilter emails;
+
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong definiteNegatives = new AtomicLong();
+    private final AtomicLong probablePositives = new AtomicLong();
+    private final AtomicLong confirmedPositives = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.currentTimeMillis();
+        try {
+            Long rows = jdbcTemplate.queryForObject("select count(*) from home", Long.class);
+            // Leave room to double before the false-positive rate drifts past the target
+            long capacity = Math.max(expectedInsertions, 2 * (rows != null ? rows : 0));
+            BloomFilter newMobiles = new BloomFilter(capacity, falsePositiveRate);
+            BloomFilter newEmails = new BloomFilter(capacity, falsePositiveRate);
+
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement("select mobile, email from home");
+                ps.setFetchSize(1000);
+                return ps;
+            }, rs -> {
+                newMobiles.put(rs.getString(1));
+                String email = rs.getString(2);
+                if (email != null) {
+                    newEmails.put(normalizeEmail(email));
+                }
+            });
+            mobiles = newMobiles;
+            emails = newEmails;
+
+            System.out.println("Signup Bloom filters built from " + newMobiles.getInsertions() + " mobiles / "
+                + newEmails.getInsertions() + " emails in " + (System.currentTimeMillis() - started) + " ms: "
+                + (newMobiles.getBitCount() + newEmails.getBitCount()) / 8 / 1024 + " KB, k=" + newMobiles.getHashCount()
+                + ", expected FPR " + String.format("%.4f%%", newMobiles.expectedFalsePositiveRate() * 100));
+        } catch (Exception e) {
+            System.err.println("⚠️ Failed to build signup Bloom filters, using database checks only: " + e.getMessage());
+        }
+    }
+
+    // false means the mobile is certainly not registered
+    public boolean mobileMightExist(String mobile) {
+        return check(mobiles, mobile);
+    }
+
+    // false means the email is certainly not registered
+    public boolean emailMightExist(String email) {
+        return check(emails, normalizeEmail(email));
+    }
+
+    // Records the outcome of the database confirmation of a probable positive
+    public void recordConfirmation(boolean exists) {
+        if (exists) {
+            confirmedPositives.incrementAndGet();
+        }
+    }
+
+    public void add(String mobile, String email) {
+        BloomFilter currentMobiles = mobiles;
+        BloomFilter currentEmails = emails;
+        if (currentMobiles != null && mobile != null) {
+            currentMobiles.put(mobile);
+        }
+        if (currentEmails != null && email != null && !email.isEmpty()) {
+            currentEmails.put(normalizeEmail(email));
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        BloomFilter currentMobiles = mobiles;
+        BloomFilter currentEmails = emails;
+        stats.put("ready", currentMobiles != null);
+        if (currentMobiles != null) {
+            stats.put("mobiles", currentMobiles.getInsertions());
+            stats.put("emails", currentEmails.getInsertions());
+            stats.put("memoryBytes", (currentMobiles.getBitCount() + currentEmails.getBitCount()) / 8);
+            stats.put("hashFunctions", currentMobiles.getHashCount());
+            stats.put("expectedFalsePositiveRateMobile", currentMobiles.expectedFalsePositiveRate());
+            stats.put("expectedFalsePositiveRateEmail", currentEmails.expectedFalsePositiveRate());
+        }
+        long negatives = checks.get() - confirmedPositives.get();
+        stats.put("checks", checks.get());
+        stats.put("definiteNegatives", definiteNegatives.get());
+        stats.put("probablePositives", probablePositives.get());
+        stats.put("confirmedPositives", confirmedPositives.get());
+        // Share of lookups for unregistered values that still had to go to the database
+        stats.put("observedFalsePositiveRate",
+            negatives > 0 ? (double) (probablePositives.get() - confirmedPositives.get()) / negatives : 0.0);
+        return stats;
+    }
+
+    private boolean check(BloomFilter filter, String value) {
+        checks.incrementAndGet();
+        boolean mightContain = filter == null || filter.mightContain(value);
+        (mightContain ? probablePositives : definiteNegatives).incrementAndGet();
+        return mightContain;
+    }
+
+    // Matches the case-insensitive collation of the home table
+    private String normalizeEmail(String email) {
+        return email.trim().toLowerCase();
+    }
+}
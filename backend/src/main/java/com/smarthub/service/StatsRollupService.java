@@ -0,0 +1,205 @@
+package com.smarthub.service;
+
+import com.smarthub.config.Bulkhead;
+import com.smarthub.dto.AdminStatsResponse;
+import com.smarthub.dto.ProviderStat;
+import com.smarthub.dto.ServiceTypeStat;
+import com.smarthub.dto.StatusBucketCount;
+import com.smarthub.entity.Booking;
+import com.smarthub.entity.BookingStat;
+import com.smarthub.entity.Complaint;
+import com.smarthub.repository.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Maintains the booking_stat / complaint_stat rollups and serves admin analytics from them.
+ *
+ * Bookings are bucketed by the hour and day they were created in. Each bucket row tracks how many
+ * of those bookings are currently in a given status, so a status change moves one booking from the
+ * old status row to the new one. Revenue is the provider price of bookings currently COMPLETED or
+ * PAID. Increments are atomic upserts, so concurrent events never lose updates.
+ *
+ * Booking events must be recorded inside the transaction that writes the booking (MANDATORY), so
+ * a bump commits or rolls back with the change it counts. Status changes are recorded under the
+ * booking's row lock and only when the status really changed, so the old-status row is moved from
+ * exactly once per transition.
+ */
+@Service
+public class StatsRollupService {
+
+    private static final Set<Booking.BookingStatus> EARNING_STATUSES =
+        EnumSet.of(Booking.BookingStatus.COMPLETED, Booking.BookingStatus.PAID);
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int TOP_PROVIDERS = 10;
+
+    // complaint_stat row for complaints not tied to a provider
+    private static final int NO_PROVIDER = 0;
+
+    @Autowired
+    private BookingStatRepository bookingStatRepository;
+
+    @Autowired
+    private ComplaintStatRepository complaintStatRepository;
+
+    @Autowired
+    private ServiceProviderRepository serviceProviderRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordBookingCreated(Booking booking) {
+        BigDecimal revenue = isEarning(booking.getStatus()) ? providerPrice(booking.getProviderId()) : BigDecimal.ZERO;
+        increment(booking, booking.getStatus(), 1, revenue);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Booking booking, Booking.BookingStatus oldStatus, Booking.BookingStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        BigDecimal price = isEarning(oldStatus) || isEarning(newStatus)
+            ? providerPrice(booking.getProviderId())
+            : BigDecimal.ZERO;
+        increment(booking, oldStatus, -1, isEarning(oldStatus) ? price.negate() : BigDecimal.ZERO);
+        increment(booking, newStatus, 1, isEarning(newStatus) ? price : BigDecimal.ZERO);
+    }
+
+    @Transactional
+    public void recordComplaint(Complaint complaint) {
+        LocalDate day = complaint.getCreatedAt() != null ? complaint.getCreatedAt().toLocalDate() : LocalDate.now();
+        complaintStatRepository.increment(day, providerKey(complaint.getProviderId()), 1);
+    }
+
+    /**
+     * Recomputes all rollups from the booking and complaint tables with one INSERT ... SELECT ...
+     * GROUP BY per bucket type, so the aggregation runs in the database and nothing is held per
+     * booking here. Used to backfill existing data and to correct drift after provider price changes.
+     *
+     * The delete and the inserts share one transaction: readers keep seeing the old rollups until
+     * commit, and the INSERT ... SELECT share-locks the booking rows it reads (REPEATABLE READ), so a
+     * status change made meanwhile waits and then applies its delta on top of the rebuilt counts.
+     */
+    @Transactional
+    @Bulkhead(Bulkhead.ADMIN)
+    public Map<String, Long> rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        bookingStatRepository.deleteAllInBatch();
+        complaintStatRepository.deleteAllInBatch();
+
+        long bookingBuckets = bookingStatRepository.insertHourBuckets(now);
+        bookingBuckets += bookingStatRepository.insertDayBuckets(now);
+        long complaintBuckets = complaintStatRepository.insertDayBuckets(now);
+
+        return Map.of(
+            "bookings", bookingStatRepository.totalCount(BookingStat.BucketType.DAY),
+            "bookingBuckets", bookingBuckets,
+            "complaints", complaintStatRepository.totalCount(),
+            "complaintBuckets", complaintBuckets
+        );
+    }
+
+    @Transactional(readOnly = true)
+    @Bulkhead(Bulkhead.ADMIN)
+    public AdminStatsResponse getStats(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        LocalDateTime rangeStart = start.atStartOfDay();
+        LocalDateTime rangeEnd = end.plusDays(1).atStartOfDay();
+
+        AdminStatsResponse response = new AdminStatsResponse();
+        response.setFrom(start);
+        response.setTo(end);
+
+        List<StatusBucketCount> perDay = bookingStatRepository.countByBucketAndStatus(
+            BookingStat.BucketType.DAY, rangeStart, rangeEnd);
+        response.setBookingsPerDay(perDay);
+        response.setBookingsPerHour(bookingStatRepository.countByBucketAndStatus(
+            BookingStat.BucketType.HOUR, end.atStartOfDay(), rangeEnd));
+
+        Map<Booking.BookingStatus, Long> byStatus = new EnumMap<>(Booking.BookingStatus.class);
+        long totalBookings = 0;
+        for (StatusBucketCount bucket : perDay) {
+            byStatus.merge(bucket.getStatus(), bucket.getCount(), Long::sum);
+            totalBookings += bucket.getCount();
+        }
+        response.setBookingsByStatus(byStatus);
+        response.setTotalBookings(totalBookings);
+
+        List<ServiceTypeStat> byServiceType = bookingStatRepository.revenueByServiceType(
+            BookingStat.BucketType.DAY, rangeStart, rangeEnd);
+        response.setRevenueByServiceType(byServiceType);
+        response.setTotalRevenue(byServiceType.stream()
+            .map(ServiceTypeStat::getRevenue)
+            .filter(Objects::nonNull)
+            .reduce(BigDecimal.ZERO, BigDecimal::add));
+
+        List<ProviderStat> topProviders = bookingStatRepository.topProviders(
+            BookingStat.BucketType.DAY, rangeStart, rangeEnd, PageRequest.of(0, TOP_PROVIDERS));
+        if (!topProviders.isEmpty()) {
+            Map<Integer, Long> complaintsByProvider = new HashMap<>();
+            List<Integer> providerIds = topProviders.stream().map(ProviderStat::getProviderId).toList();
+            for (Object[] row : complaintStatRepository.countByProvider(start, end, providerIds)) {
+                complaintsByProvider.put((Integer) row[0], (Long) row[1]);
+            }
+            topProviders.forEach(p -> p.setComplaints(complaintsByProvider.getOrDefault(p.getProviderId(), 0L)));
+        }
+        response.setTopProviders(topProviders);
+
+        long totalComplaints = complaintStatRepository.totalBetween(start, end);
+        response.setTotalComplaints(totalComplaints);
+        response.setComplaintRate(totalBookings == 0 ? 0.0 : (double) totalComplaints / totalBookings);
+
+        return response;
+    }
+
+    private void increment(Booking booking, Booking.BookingStatus status, long delta, BigDecimal revenue) {
+        LocalDateTime created = createdAt(booking);
+        for (BookingStat.BucketType bucketType : BookingStat.BucketType.values()) {
+            bookingStatRepository.increment(
+                bucketType.name(),
+                bucketStart(bucketType, created),
+                status.name(),
+                serviceType(booking),
+                booking.getProviderId(),
+                delta,
+                revenue
+            );
+        }
+    }
+
+    private LocalDateTime bucketStart(BookingStat.BucketType bucketType, LocalDateTime time) {
+        return time.truncatedTo(bucketType == BookingStat.BucketType.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS);
+    }
+
+    private LocalDateTime createdAt(Booking booking) {
+        return booking.getCreatedAt() != null ? booking.getCreatedAt() : LocalDateTime.now();
+    }
+
+    private String serviceType(Booking booking) {
+        return booking.getServiceType() != null ? booking.getServiceType() : "";
+    }
+
+    private int providerKey(Integer providerId) {
+        return providerId != null ? providerId : NO_PROVIDER;
+    }
+
+    private boolean isEarning(Booking.BookingStatus status) {
+        return status != null && EARNING_STATUSES.contains(status);
+    }
+
+    private BigDecimal providerPrice(Integer providerId) {
+        return serviceProviderRepository.findPriceById(providerId).orElse(BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,178 @@
+package com.smarthub.service;
+
+import com.smarthub.config.Bulkhead;
+import com.smarthub.dto.BookingView;
+import com.smarthub.dto.NotificationView;
+import com.smarthub.dto.ReviewView;
+import com.smarthub.dto.SyncResponse;
+import com.smarthub.entity.Home;
+import com.smarthub.repository.BookingRepository;
+import com.smarthub.repository.NotificationRepository;
+import com.smarthub.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Delta sync of a user's or provider's bookings, notifications and reviews.
+ *
+ * The cursor holds one position per list: the (updated_at, id) of the last row the client has,
+ * and each call returns the rows after it, oldest change first, at most sync.max-rows per list.
+ * The id breaks ties between rows stamped in the same instant, so a page boundary inside a burst
+ * of identical stamps still moves forward. A call without a cursor starts every list from the
+ * beginning and pages the same way.
+ *
+ * updated_at is set when a transaction flushes, not when it commits, so a slow transaction can
+ * commit a stamp older than rows that are already visible. A position therefore never moves past
+ * "now - commit lag", and rows inside that window are sent again on the next call. Delivery is
+ * at-least-once, and clients upsert by id. Deleted rows are not reported.
+ */
+@Service
+@Bulkhead(Bulkhead.READ)
+public class SyncService {
+    
+    // Start of every list for a call without a cursor; updated_at is never null (V1.1 stamped old rows)
+    private static final Position START = new Position(LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+    private static final String CURSOR_SEPARATOR = "-";
+    
+    @Value("${sync.max-rows:500}")
+    private int maxRows;
+    
+    @Value("${sync.commit-lag-ms:5000}")
+    private long commitLagMs;
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Autowired
+    private NotificationRepository notificationRepository;
+    
+    @Autowired
+    private ReviewRepository reviewRepository;
+    
+    @Transactional(readOnly = true)
+    public SyncResponse sync(Home.Role role, Integer id, String cursor) {
+        Position[] since = parseCursor(cursor);
+        Position safe = new Position(toDateTime(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis() - commitLagMs)), 0);
+        Pageable page = PageRequest.of(0, maxRows + 1);
+        Position bookingsFrom = since[0];
+        Position notificationsFrom = since[1];
+        Position reviewsFrom = since[2];
+        
+        List<BookingView> bookings;
+        List<NotificationView> notifications;
+        List<ReviewView> reviews;
+        switch (role) {
+            case USER:
+                bookings = bookingRepository.findViewsByUserIdChangedSince(id, bookingsFrom.updatedAt(), bookingsFrom.id(), page);
+                notifications = notificationRepository.findViewsChangedSince(id, "USER",
+                    notificationsFrom.updatedAt(), notificationsFrom.id(), page);
+                reviews = reviewRepository.findViewsByUserIdChangedSince(id, reviewsFrom.updatedAt(), reviewsFrom.id(), page);
+                break;
+            case SERVICE_PROVIDER:
+                bookings = bookingRepository.findViewsByProviderIdChangedSince(id, bookingsFrom.updatedAt(), bookingsFrom.id(), page);
+                notifications = notificationRepository.findViewsChangedSince(id, "PROVIDER",
+                    notificationsFrom.updatedAt(), notificationsFrom.id(), page);
+                reviews = reviewRepository.findViewsByProviderIdChangedSince(id, reviewsFrom.updatedAt(), reviewsFrom.id(), page);
+                break;
+            default:
+                throw new IllegalArgumentException("Sync is only available to users and providers");
+        }
+        
+        Next nextBookings = next(bookings, bookingsFrom, safe, row -> new Position(row.updatedAt(), row.bookingId()));
+        Next nextNotifications = next(notifications, notificationsFrom, safe,
+            row -> new Position(row.updatedAt(), row.notificationId()));
+        Next nextReviews = next(reviews, reviewsFrom, safe, row -> new Position(row.updatedAt(), row.reviewId()));
+        
+        SyncResponse response = new SyncResponse();
+        response.setCursor(nextBookings.position().encode() + CURSOR_SEPARATOR + nextNotifications.position().encode()
+            + CURSOR_SEPARATOR + nextReviews.position().encode());
+        response.setHasMore(nextBookings.hasMore() || nextNotifications.hasMore() || nextReviews.hasMore());
+        response.setBookings(bookings);
+        response.setNotifications(notifications);
+        response.setReviews(reviews);
+        return response;
+    }
+    
+    // Where a list continues next time. A list cut at maxRows resumes after its last row kept, unless
+    // that row is inside the commit-lag window: then the position stops at the window and the rest
+    // waits for a later call. Positions never move backwards.
+    private <T> Next next(List<T> rows, Position from, Position safe, Function<T, Position> positionOf) {
+        if (rows.size() > maxRows) {
+            rows.subList(maxRows, rows.size()).clear();
+            Position last = positionOf.apply(rows.get(maxRows - 1));
+            if (last.compareTo(safe) < 0) {
+                return new Next(last, true);
+            }
+        }
+        return new Next(from.compareTo(safe) > 0 ? from : safe, false);
+    }
+    
+    // "<bookings>-<notifications>-<reviews>", each "<updated_at in epoch microseconds>.<id>". A plain
+    // number is a cursor of the earlier format (epoch milliseconds, every row at or after it).
+    private Position[] parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Position[]{START, START, START};
+        }
+        try {
+            String value = cursor.trim();
+            if (value.matches("\\d+")) {
+                Position legacy = new Position(toDateTime(TimeUnit.MILLISECONDS.toMicros(Long.parseLong(value))), 0);
+                return new Position[]{legacy, legacy, legacy};
+            }
+            String[] parts = value.split(CURSOR_SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid sync cursor: " + cursor);
+            }
+            Position[] positions = new Position[3];
+            for (int i = 0; i < 3; i++) {
+                String[] position = parts[i].split("\\.");
+                if (position.length != 2) {
+                    throw new IllegalArgumentException("Invalid sync cursor: " + cursor);
+                }
+                positions[i] = new Position(toDateTime(Long.parseLong(position[0])), Integer.parseInt(position[1]));
+            }
+            return positions;
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid sync cursor: " + cursor);
+        }
+    }
+    
+    // updated_at holds JVM-local time (Hibernate's VM timestamp source) with microsecond precision
+    private static LocalDateTime toDateTime(long micros) {
+        Instant instant = Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+    
+    private static long toMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+    
+    // Keyset position within one list: after updatedAt, or at updatedAt with a larger id
+    private record Position(LocalDateTime updatedAt, int id) implements Comparable<Position> {
+        
+        String encode() {
+            return toMicros(updatedAt) + "." + id;
+        }
+        
+        @Override
+        public int compareTo(Position other) {
+            int byTime = updatedAt.compareTo(other.updatedAt);
+            return byTime != 0 ? byTime : Integer.compare(id, other.id);
+        }
+    }
+    
+    private record Next(Position position, boolean hasMore) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.smarthub.service;
+
+import com.smarthub.dto.TokenClaims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues and verifies HMAC-SHA256 signed session tokens.
+ *
+ * Format: {@code <kid>.<base64url(role:id:expiresAt)>.<base64url(signature)>}, signed over
+ * {@code <kid>.<payload>}. New tokens are signed with the active key; every key listed in
+ * auth.token.keys is accepted, so a key is rotated by adding the new one, switching
+ * auth.token.active-kid, and removing the old one after the TTL has passed.
+ *
+ * Verification needs no database access. Verified tokens are kept in a small bounded cache so
+ * repeat requests skip the HMAC and parsing entirely.
+ */
+@Service
+public class TokenService {
+    
+    private static final int CACHE_LIMIT = 10_000;
+    
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    
+    private final Map<String, Mac> keys = new LinkedHashMap<>();
+    private final String activeKid;
+    private final long ttlSeconds;
+    private final Map<String, TokenClaims> verified = new ConcurrentHashMap<>();
+    
+    public TokenService(
+        @Value("${auth.token.keys:}") String configuredKeys,
+        @Value("${auth.token.active-kid:}") String activeKid,
+        @Value("${auth.token.ttl-minutes:720}") long ttlMinutes
+    ) {
+        for (String entry : configuredKeys.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int colon = trimmed.indexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException("auth.token.keys entries must look like <kid>:<base64 secret>");
+            }
+            byte[] secret = Base64.getDecoder().decode(trimmed.substring(colon + 1));
+            if (secret.length < 32) {
+                throw new IllegalArgumentException("auth.token.keys secrets must be at least 32 bytes");
+            }
+            keys.put(trimmed.substring(0, colon), mac(secret));
+        }
+        if (keys.isEmpty()) {
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            keys.put("dev", mac(secret));
+            System.err.println("⚠️ auth.token.keys not set; using a random key. Tokens will not survive a restart.");
+        }
+        this.activeKid = activeKid.isEmpty() ? keys.keySet().iterator().next() : activeKid;
+        if (!keys.containsKey(this.activeKid)) {
+            throw new IllegalArgumentException("auth.token.active-kid '" + activeKid + "' is not in auth.token.keys");
+        }
+        this.ttlSeconds = ttlMinutes * 60;
+    }
+    
+    public String issue(String role, Integer id) {
+        long expiresAt = Instant.now().getEpochSecond() + ttlSeconds;
+        String payload = ENCODER.encodeToString((role + ":" + id + ":" + expiresAt).getBytes(StandardCharsets.UTF_8));
+        String signed = activeKid + "." + payload;
+        return signed + "." + ENCODER.encodeToString(sign(activeKid, signed));
+    }
+    
+    // Returns the claims of a valid, unexpired token, otherwise null
+    public TokenClaims verify(String token) {
+        long now = Instant.now().getEpochSecond();
+        TokenClaims cached = verified.get(token);
+        if (cached != null) {
+            if (cached.getExpiresAt() > now) {
+                return cached;
+            }
+            verified.remove(token);
+            return null;
+        }
+        
+        int first = token.indexOf('.');
+        int last = token.lastIndexOf('.');
+        if (first <= 0 || last == first) {
+            return null;
+        }
+        String kid = token.substring(0, first);
+        if (!keys.containsKey(kid)) {
+            return null;
+        }
+        try {
+            byte[] signature = DECODER.decode(token.substring(last + 1));
+            if (!MessageDigest.isEqual(signature, sign(kid, token.substring(0, last)))) {
+                return null;
+            }
+            String[] parts = new String(DECODER.decode(token.substring(first + 1, last)), StandardCharsets.UTF_8).split(":");
+            TokenClaims claims = new TokenClaims(parts[0], Integer.valueOf(parts[1]), Long.parseLong(parts[2]));
+            if (claims.getExpiresAt() <= now) {
+                return null;
+            }
+            if (verified.size() >= CACHE_LIMIT) {
+                verified.clear();
+            }
+            verified.put(token, claims);
+            return claims;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+    
+    private byte[] sign(String kid, String data) {
+        try {
+            // Mac is not thread-safe; clone the initialised prototype per call
+            Mac mac = (Mac) keys.get(kid).clone();
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HmacSHA256 provider does not support clone", e);
+        }
+    }
+    
+    private static Mac mac(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
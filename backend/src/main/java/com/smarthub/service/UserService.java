@@ -1,28 +1,39 @@
 package com.smarthub.service;
 
+import com.smarthub.config.Bulkhead;
 import com.smarthub.entity.User;
 import com.smarthub.exception.ResourceNotFoundException;
 import com.smarthub.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Bulkhead(Bulkhead.BOOKING)
 public class UserService {
     
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private SignupFilterService signupFilterService;
+    
+    @Bulkhead(Bulkhead.READ)
     public User getProfile(Integer id) {
         return userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
     
+    @Transactional
     public User updateProfile(Integer id, User updatedUser) {
         User user = getProfile(id);
         user.setFullName(updatedUser.getFullName());
-        user.setEmail(updatedUser.getEmail());
+        // Contact details live on the account row, so uk_home_email applies; store empty as null
+        user.setEmail(updatedUser.getEmail() != null && !updatedUser.getEmail().isEmpty() ? updatedUser.getEmail() : null);
         user.setMobile(updatedUser.getMobile());
         user.setLocation(updatedUser.getLocation());
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        signupFilterService.add(saved.getMobile(), saved.getEmail());
+        return saved;
     }
 }
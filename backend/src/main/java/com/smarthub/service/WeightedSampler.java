@@ -0,0 +1,52 @@
+package com.smarthub.service;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws indexes 0..n-1 with probability proportional to fixed weights, by binary search over the
+ * cumulative weights. Used by the dataset generator for skewed (Zipf) and seasonal distributions.
+ */
+final class WeightedSampler {
+
+    private final double[] cumulative;
+
+    WeightedSampler(double[] weights) {
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("At least one weight is required");
+        }
+        cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+    }
+
+    // Rank i has weight 1 / (i + 1)^exponent; exponent 0 is uniform
+    static WeightedSampler zipf(int n, double exponent) {
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, exponent);
+        }
+        return new WeightedSampler(weights);
+    }
+
+    int sample(SplittableRandom random) {
+        double x = random.nextDouble() * cumulative[cumulative.length - 1];
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > x) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+}
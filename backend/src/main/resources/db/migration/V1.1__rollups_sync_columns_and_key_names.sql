@@ -0,0 +1,67 @@
+-- Everything the entities gained on top of the original schema while ddl-auto was still on:
+-- the analytics rollup tables, the id_sequences table, the updated_at change stamps and their
+-- indexes, and stable names for the home unique keys (AuthService matches on them).
+
+-- 1. Unique keys on home: Hibernate named them after a hash of table and column. Dropped and
+--    re-added rather than renamed, since H2 (the benchmarks' in-memory database) has no
+--    RENAME INDEX and MySQL/MariaDB have no RENAME CONSTRAINT.
+ALTER TABLE home DROP CONSTRAINT UK_b9y7jdvtlbra76wsbmy46amyr;
+ALTER TABLE home ADD CONSTRAINT uk_home_mobile UNIQUE (mobile);
+ALTER TABLE home DROP CONSTRAINT UK_o3shhqiknh5epsv562urnhl9w;
+ALTER TABLE home ADD CONSTRAINT uk_home_email UNIQUE (email);
+
+-- 2. Change stamps for the ETags and /api/sync. Existing rows start at their creation time, or
+--    now where that was never set, so a first delta sync after the upgrade still returns them.
+ALTER TABLE service_provider ADD COLUMN updated_at DATETIME(6);
+UPDATE service_provider SET updated_at = COALESCE(created_at, NOW(6));
+CREATE INDEX idx_service_provider_updated ON service_provider (updated_at);
+
+ALTER TABLE booking ADD COLUMN updated_at DATETIME(6);
+UPDATE booking SET updated_at = COALESCE(created_at, NOW(6));
+CREATE INDEX idx_booking_user_updated ON booking (user_id, updated_at);
+CREATE INDEX idx_booking_provider_updated ON booking (provider_id, updated_at);
+
+ALTER TABLE notifications ADD COLUMN updated_at DATETIME(6);
+UPDATE notifications SET updated_at = COALESCE(created_at, NOW(6));
+CREATE INDEX idx_notifications_receiver_updated ON notifications (receiver_id, updated_at);
+
+ALTER TABLE review ADD COLUMN updated_at DATETIME(6);
+UPDATE review SET updated_at = COALESCE(created_at, NOW(6));
+CREATE INDEX idx_review_user_updated ON review (user_id, updated_at);
+CREATE INDEX idx_review_provider_updated ON review (provider_id, updated_at);
+
+-- 3. booking, notifications and review take their ids from id_sequences (pooled table generator).
+--    IdSequenceInitializer moves each row past the highest existing id at startup.
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE=InnoDB;
+
+ALTER TABLE booking MODIFY booking_id INT NOT NULL;
+ALTER TABLE notifications MODIFY notification_id INT NOT NULL;
+ALTER TABLE review MODIFY review_id INT NOT NULL;
+
+-- 4. Analytics rollups, kept current by StatsRollupService. Backfill existing bookings and
+--    complaints once with POST /api/admin/stats/rebuild.
+CREATE TABLE booking_stat (
+    stat_id BIGINT NOT NULL AUTO_INCREMENT,
+    bucket_type ENUM('HOUR', 'DAY') NOT NULL,
+    bucket_start DATETIME(6) NOT NULL,
+    status ENUM('PENDING', 'ACCEPTED', 'CONFIRMED', 'REJECTED', 'COMPLETED', 'PAID', 'CANCELLED') NOT NULL,
+    service_type VARCHAR(100) NOT NULL,
+    provider_id INT NOT NULL,
+    booking_count BIGINT NOT NULL,
+    revenue DECIMAL(14, 2) NOT NULL,
+    PRIMARY KEY (stat_id),
+    CONSTRAINT uk_booking_stat_bucket UNIQUE (bucket_type, bucket_start, status, service_type, provider_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE complaint_stat (
+    stat_id BIGINT NOT NULL AUTO_INCREMENT,
+    bucket_day DATE NOT NULL,
+    provider_id INT NOT NULL,
+    complaint_count BIGINT NOT NULL,
+    PRIMARY KEY (stat_id),
+    CONSTRAINT uk_complaint_stat_bucket UNIQUE (bucket_day, provider_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,107 @@
+-- Schema as built by ddl-auto=update from the original entities, before any migration existed.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and start
+-- at V1.1. The unique keys keep the names Hibernate generated for them; V1.1 renames them.
+
+CREATE TABLE home (
+    id INT NOT NULL AUTO_INCREMENT,
+    full_name VARCHAR(100) NOT NULL,
+    email VARCHAR(100),
+    mobile VARCHAR(15) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role ENUM('USER', 'SERVICE_PROVIDER', 'ADMIN') NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_b9y7jdvtlbra76wsbmy46amyr UNIQUE (mobile),
+    CONSTRAINT UK_o3shhqiknh5epsv562urnhl9w UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE TABLE user (
+    user_id INT NOT NULL AUTO_INCREMENT,
+    home_id INT NOT NULL,
+    full_name VARCHAR(100) NOT NULL,
+    email VARCHAR(100),
+    mobile VARCHAR(15) NOT NULL,
+    location VARCHAR(255),
+    created_at DATETIME(6),
+    PRIMARY KEY (user_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE service_provider (
+    provider_id INT NOT NULL AUTO_INCREMENT,
+    home_id INT NOT NULL,
+    full_name VARCHAR(100) NOT NULL,
+    email VARCHAR(100),
+    mobile VARCHAR(15) NOT NULL,
+    service_type VARCHAR(100),
+    experience INT,
+    price DECIMAL(10, 2),
+    availability VARCHAR(100),
+    location VARCHAR(255),
+    created_at DATETIME(6),
+    PRIMARY KEY (provider_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE admin (
+    admin_id INT NOT NULL AUTO_INCREMENT,
+    home_id INT NOT NULL,
+    full_name VARCHAR(100) NOT NULL,
+    email VARCHAR(100),
+    mobile VARCHAR(15) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (admin_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE booking (
+    booking_id INT NOT NULL AUTO_INCREMENT,
+    user_id INT NOT NULL,
+    provider_id INT NOT NULL,
+    service_type VARCHAR(100) NOT NULL,
+    booking_date DATE NOT NULL,
+    booking_time TIME(6) NOT NULL,
+    status ENUM('PENDING', 'ACCEPTED', 'CONFIRMED', 'REJECTED', 'COMPLETED', 'PAID', 'CANCELLED') NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (booking_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE notifications (
+    notification_id INT NOT NULL AUTO_INCREMENT,
+    receiver_id INT NOT NULL,
+    receiver_type VARCHAR(20) NOT NULL,
+    message VARCHAR(500) NOT NULL,
+    type VARCHAR(50),
+    status VARCHAR(20) NOT NULL,
+    related_booking_id INT,
+    created_at DATETIME(6),
+    PRIMARY KEY (notification_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE review (
+    review_id INT NOT NULL AUTO_INCREMENT,
+    booking_id INT NOT NULL,
+    user_id INT NOT NULL,
+    provider_id INT NOT NULL,
+    rating INT NOT NULL,
+    comment TEXT,
+    created_at DATETIME(6),
+    PRIMARY KEY (review_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE complaint (
+    complaint_id INT NOT NULL AUTO_INCREMENT,
+    user_id INT NOT NULL,
+    provider_id INT,
+    message TEXT NOT NULL,
+    status ENUM('OPEN', 'IN_PROGRESS', 'RESOLVED') NOT NULL,
+    response TEXT,
+    created_at DATETIME(6),
+    PRIMARY KEY (complaint_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE service_schedule (
+    schedule_id INT NOT NULL AUTO_INCREMENT,
+    provider_id INT NOT NULL,
+    day_of_week ENUM('MON', 'TUE', 'WED', 'THU', 'FRI', 'SAT', 'SUN'),
+    start_time TIME(6),
+    end_time TIME(6),
+    PRIMARY KEY (schedule_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,19 @@
+-- Secondary indexes for the repository queries on the request path. ddl-auto never created
+-- these. Already covered, so not repeated here:
+--   booking(user_id)     leading column of idx_booking_user_updated
+--   review(provider_id)  leading column of idx_review_provider_updated
+--   home(mobile, role)   uk_home_mobile makes mobile = ? a single-row lookup
+
+-- Provider dashboard: provider_id = ? AND status IN (...) AND booking_date BETWEEN ? AND ?
+CREATE INDEX idx_booking_provider_date ON booking (provider_id, booking_date);
+
+-- Unread list and badge count: receiver_id = ? AND status = ? ORDER BY created_at DESC
+CREATE INDEX idx_notifications_receiver_status_created ON notifications (receiver_id, status, created_at);
+
+-- Profile lookup at login: home_id = ?
+CREATE INDEX idx_user_home ON user (home_id);
+CREATE INDEX idx_service_provider_home ON service_provider (home_id);
+CREATE INDEX idx_admin_home ON admin (home_id);
+
+-- Provider schedule: provider_id = ?
+CREATE INDEX idx_service_schedule_provider ON service_schedule (provider_id);
@@ -0,0 +1,147 @@
+-- One account row per person: user, service_provider and admin rows take the id of their home
+-- row (joined inheritance) and drop the full_name/email/mobile/created_at copies they carried.
+-- Every user_id and provider_id stored elsewhere is rewritten to the home id, so ids held by
+-- clients and in issued session tokens change: deploy with a new auth.token.active-kid and drop
+-- the old key. MySQL commits each DDL statement, so take a backup before running this on live data.
+
+-- 1. Profile edits were only ever written to the role rows; carry them back to home first.
+--    Names always; email and mobile only where no other account already uses the value.
+CREATE TABLE v3_profile (
+    home_id INT NOT NULL,
+    full_name VARCHAR(100) NOT NULL,
+    email VARCHAR(100),
+    mobile VARCHAR(15) NOT NULL,
+    PRIMARY KEY (home_id)
+) ENGINE=InnoDB;
+
+INSERT INTO v3_profile (home_id, full_name, email, mobile) SELECT home_id, full_name, email, mobile FROM user;
+INSERT INTO v3_profile (home_id, full_name, email, mobile) SELECT home_id, full_name, email, mobile FROM service_provider;
+INSERT INTO v3_profile (home_id, full_name, email, mobile) SELECT home_id, full_name, email, mobile FROM admin;
+
+CREATE TABLE v3_taken (
+    contact VARCHAR(100) NOT NULL,
+    PRIMARY KEY (contact)
+) ENGINE=InnoDB;
+
+INSERT INTO v3_taken (contact) SELECT mobile FROM home;
+INSERT INTO v3_taken (contact) SELECT email FROM home WHERE email IS NOT NULL;
+
+UPDATE home SET full_name = (SELECT p.full_name FROM v3_profile p WHERE p.home_id = home.id)
+WHERE id IN (SELECT home_id FROM v3_profile);
+
+UPDATE home SET mobile = (SELECT p.mobile FROM v3_profile p WHERE p.home_id = home.id)
+WHERE id IN (SELECT p.home_id FROM v3_profile p
+             WHERE p.mobile NOT IN (SELECT contact FROM v3_taken)
+               AND p.mobile IN (SELECT mobile FROM v3_profile GROUP BY mobile HAVING COUNT(*) = 1));
+
+UPDATE home SET email = (SELECT p.email FROM v3_profile p WHERE p.home_id = home.id)
+WHERE id IN (SELECT p.home_id FROM v3_profile p
+             WHERE p.email IS NOT NULL AND p.email <> ''
+               AND p.email NOT IN (SELECT contact FROM v3_taken)
+               AND p.email IN (SELECT email FROM v3_profile GROUP BY email HAVING COUNT(*) = 1));
+
+-- 2. Rewrite references from the old role ids to home ids
+CREATE TABLE v3_user_id (
+    old_id INT NOT NULL,
+    new_id INT NOT NULL,
+    PRIMARY KEY (old_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE v3_provider_id (
+    old_id INT NOT NULL,
+    new_id INT NOT NULL,
+    PRIMARY KEY (old_id)
+) ENGINE=InnoDB;
+
+INSERT INTO v3_user_id (old_id, new_id) SELECT user_id, home_id FROM user;
+INSERT INTO v3_provider_id (old_id, new_id) SELECT provider_id, home_id FROM service_provider;
+
+UPDATE booking SET user_id = (SELECT m.new_id FROM v3_user_id m WHERE m.old_id = booking.user_id)
+WHERE user_id IN (SELECT old_id FROM v3_user_id);
+UPDATE booking SET provider_id = (SELECT m.new_id FROM v3_provider_id m WHERE m.old_id = booking.provider_id)
+WHERE provider_id IN (SELECT old_id FROM v3_provider_id);
+
+UPDATE review SET user_id = (SELECT m.new_id FROM v3_user_id m WHERE m.old_id = review.user_id)
+WHERE user_id IN (SELECT old_id FROM v3_user_id);
+UPDATE review SET provider_id = (SELECT m.new_id FROM v3_provider_id m WHERE m.old_id = review.provider_id)
+WHERE provider_id IN (SELECT old_id FROM v3_provider_id);
+
+UPDATE complaint SET user_id = (SELECT m.new_id FROM v3_user_id m WHERE m.old_id = complaint.user_id)
+WHERE user_id IN (SELECT old_id FROM v3_user_id);
+UPDATE complaint SET provider_id = (SELECT m.new_id FROM v3_provider_id m WHERE m.old_id = complaint.provider_id)
+WHERE provider_id IN (SELECT old_id FROM v3_provider_id);
+
+UPDATE notifications SET receiver_id = (SELECT m.new_id FROM v3_user_id m WHERE m.old_id = notifications.receiver_id)
+WHERE receiver_type = 'USER' AND receiver_id IN (SELECT old_id FROM v3_user_id);
+UPDATE notifications SET receiver_id = (SELECT m.new_id FROM v3_provider_id m WHERE m.old_id = notifications.receiver_id)
+WHERE receiver_type = 'PROVIDER' AND receiver_id IN (SELECT old_id FROM v3_provider_id);
+
+UPDATE service_schedule SET provider_id = (SELECT m.new_id FROM v3_provider_id m WHERE m.old_id = service_schedule.provider_id)
+WHERE provider_id IN (SELECT old_id FROM v3_provider_id);
+
+-- The rollups are keyed by provider_id. Rewriting them in place can collide on the bucket
+-- unique keys (rows of providers that no longer exist are not in the map), so they are
+-- dropped here and rebuilt from the rewritten rows in step 4.
+DELETE FROM booking_stat;
+DELETE FROM complaint_stat;
+
+-- 3. Rebuild the role tables keyed by the home id, keeping only role-specific columns
+CREATE TABLE user_v3 (
+    user_id INT NOT NULL,
+    location VARCHAR(255),
+    PRIMARY KEY (user_id)
+) ENGINE=InnoDB;
+
+INSERT INTO user_v3 (user_id, location) SELECT home_id, location FROM user;
+DROP TABLE user;
+ALTER TABLE user_v3 RENAME TO user;
+
+CREATE TABLE service_provider_v3 (
+    provider_id INT NOT NULL,
+    service_type VARCHAR(100),
+    experience INT,
+    price DECIMAL(10, 2),
+    availability VARCHAR(100),
+    location VARCHAR(255),
+    updated_at DATETIME(6),
+    PRIMARY KEY (provider_id)
+) ENGINE=InnoDB;
+
+INSERT INTO service_provider_v3 (provider_id, service_type, experience, price, availability, location, updated_at)
+SELECT home_id, service_type, experience, price, availability, location, updated_at FROM service_provider;
+DROP TABLE service_provider;
+ALTER TABLE service_provider_v3 RENAME TO service_provider;
+CREATE INDEX idx_service_provider_updated ON service_provider (updated_at);
+
+CREATE TABLE admin_v3 (
+    admin_id INT NOT NULL,
+    PRIMARY KEY (admin_id)
+) ENGINE=InnoDB;
+
+INSERT INTO admin_v3 (admin_id) SELECT home_id FROM admin;
+DROP TABLE admin;
+ALTER TABLE admin_v3 RENAME TO admin;
+
+DROP TABLE v3_profile;
+DROP TABLE v3_taken;
+DROP TABLE v3_user_id;
+DROP TABLE v3_provider_id;
+
+-- 4. Rebuild the rollups under the new provider ids, as StatsRollupService.rebuild does
+INSERT INTO booking_stat (bucket_type, bucket_start, status, service_type, provider_id, booking_count, revenue)
+SELECT 'HOUR', TIMESTAMPADD(HOUR, HOUR(COALESCE(b.created_at, NOW(6))), DATE(COALESCE(b.created_at, NOW(6)))),
+       b.status, b.service_type, b.provider_id,
+       COUNT(*), SUM(CASE WHEN b.status IN ('COMPLETED', 'PAID') THEN COALESCE(p.price, 0) ELSE 0 END)
+FROM booking b LEFT JOIN service_provider p ON p.provider_id = b.provider_id
+GROUP BY TIMESTAMPADD(HOUR, HOUR(COALESCE(b.created_at, NOW(6))), DATE(COALESCE(b.created_at, NOW(6)))),
+         b.status, b.service_type, b.provider_id;
+
+INSERT INTO booking_stat (bucket_type, bucket_start, status, service_type, provider_id, booking_count, revenue)
+SELECT 'DAY', DATE(COALESCE(b.created_at, NOW(6))), b.status, b.service_type, b.provider_id,
+       COUNT(*), SUM(CASE WHEN b.status IN ('COMPLETED', 'PAID') THEN COALESCE(p.price, 0) ELSE 0 END)
+FROM booking b LEFT JOIN service_provider p ON p.provider_id = b.provider_id
+GROUP BY DATE(COALESCE(b.created_at, NOW(6))), b.status, b.service_type, b.provider_id;
+
+INSERT INTO complaint_stat (bucket_day, provider_id, complaint_count)
+SELECT DATE(COALESCE(c.created_at, NOW(6))), COALESCE(c.provider_id, 0), COUNT(*) FROM complaint c
+GROUP BY DATE(COALESCE(c.created_at, NOW(6))), COALESCE(c.provider_id, 0);
@@ -67,9 +67,8 @@ const NotificationBell = ({ userId, userType }: NotificationBellProps) => {
           .filter((id): id is number => id !== undefined) as number[]; // ensure number[]
 
         const uniqueBookingIds = Array.from(new Set(bookingIds)) as number[];
-        
-        for (const bookingId of uniqueBookingIds) {
-          fetchBookingStatus(bookingId);
+        if (uniqueBookingIds.length > 0) {
+          fetchBookingStatuses(uniqueBookingIds);
         }
       }
     } catch (error) {
@@ -77,18 +76,20 @@ const NotificationBell = ({ userId, userType }: NotificationBellProps) => {
     }
   };
 
-  const fetchBookingStatus = async (bookingId: number) => {
+  // One bookings request per poll, not one per notification
+  const fetchBookingStatuses = async (bookingIds: number[]) => {
     try {
       const res = await fetch(`${BACKEND_URL}/api/bookings/provider/${userId}`);
       if (res.ok) {
         const bookings: Booking[] = await res.json(); // ✅ Type the response
-        const booking = bookings.find((b) => b.bookingId === bookingId);
-        if (booking) {
-          setBookingStatuses((prev) => ({
-            ...prev,
-            [bookingId]: booking.status,
-          }));
-        }
+        const wanted = new Set(bookingIds);
+        const statuses: Record<number, string> = {};
+        bookings
+          .filter((b) => wanted.has(b.bookingId))
+          .forEach((b) => {
+            statuses[b.bookingId] = b.status;
+          });
+        setBookingStatuses((prev) => ({ ...prev, ...statuses }));
       }
     } catch (error) {
       console.error("Failed to fetch booking status:", error);
@@ -0,0 +1,82 @@
+import { useCallback, useEffect, useState } from "react";
+
+export interface KeysetPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  hasMore: boolean;
+  estimatedTotal: number | null;
+  totalApproximate: boolean;
+}
+
+/**
+ * Loads a server-side keyset-paginated table page by page.
+ * Changing `params` (filters/sort) restarts from the first page.
+ */
+export function useKeysetPage<T>(url: string, params: Record<string, string | undefined>, pageSize = 50) {
+  const [items, setItems] = useState<T[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [estimatedTotal, setEstimatedTotal] = useState<number | null>(null);
+  const [totalApproximate, setTotalApproximate] = useState(false);
+  const [loading, setLoading] = useState(false);
+
+  const query = JSON.stringify(params);
+
+  const fetchPage = useCallback(
+    async (cursor: string | null) => {
+      const search = new URLSearchParams({ size: String(pageSize) });
+      Object.entries(JSON.parse(query) as Record<string, string | undefined>).forEach(([key, value]) => {
+        if (value) search.set(key, value);
+      });
+      if (cursor) search.set("cursor", cursor);
+
+      const res = await fetch(`${url}?${search.toString()}`);
+      if (!res.ok) {
+        throw new Error(`Failed to fetch: ${res.status}`);
+      }
+      return (await res.json()) as KeysetPage<T>;
+    },
+    [url, query, pageSize]
+  );
+
+  useEffect(() => {
+    let cancelled = false;
+    setLoading(true);
+    fetchPage(null)
+      .then((page) => {
+        if (cancelled) return;
+        setItems(page.items);
+        setNextCursor(page.nextCursor);
+        setEstimatedTotal(page.estimatedTotal);
+        setTotalApproximate(page.totalApproximate);
+      })
+      .catch((error) => {
+        console.error("❌ Failed to load page:", error);
+        if (!cancelled) {
+          setItems([]);
+          setNextCursor(null);
+        }
+      })
+      .finally(() => {
+        if (!cancelled) setLoading(false);
+      });
+    return () => {
+      cancelled = true;
+    };
+  }, [fetchPage]);
+
+  const loadMore = useCallback(async () => {
+    if (!nextCursor) return;
+    setLoading(true);
+    try {
+      const page = await fetchPage(nextCursor);
+      setItems((current) => [...current, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      console.error("❌ Failed to load next page:", error);
+    } finally {
+      setLoading(false);
+    }
+  }, [fetchPage, nextCursor]);
+
+  return { items, loading, hasMore: !!nextCursor, loadMore, estimatedTotal, totalApproximate };
+}
@@ -0,0 +1,36 @@
+const API_BASE = import.meta.env.VITE_API_BASE?.toString() || "http://localhost:8080";
+
+const apiOrigins = new Set([new URL(API_BASE, window.location.href).origin, window.location.origin]);
+
+const storedToken = (): string | undefined => {
+  try {
+    return JSON.parse(localStorage.getItem("userData") || "{}").token;
+  } catch {
+    return undefined;
+  }
+};
+
+/**
+ * Sends the session token from the stored login response as a Bearer header on every
+ * request to the backend API, so individual pages don't have to.
+ */
+export function installAuthFetch() {
+  const originalFetch = window.fetch.bind(window);
+
+  window.fetch = (input: RequestInfo | URL, init?: RequestInit) => {
+    const url = new URL(
+      typeof input === "string" ? input : input instanceof URL ? input.href : input.url,
+      window.location.href
+    );
+    const token = storedToken();
+    if (!token || !apiOrigins.has(url.origin) || !url.pathname.startsWith("/api/")) {
+      return originalFetch(input, init);
+    }
+
+    const headers = new Headers(init?.headers ?? (input instanceof Request ? input.headers : undefined));
+    if (!headers.has("Authorization")) {
+      headers.set("Authorization", `Bearer ${token}`);
+    }
+    return originalFetch(input, { ...init, headers });
+  };
+}
@@ -1,5 +1,8 @@
 import { createRoot } from "react-dom/client";
 import App from "./App.tsx";
 import "./index.css";
+import { installAuthFetch } from "./lib/auth-fetch";
+
+installAuthFetch();
 
 createRoot(document.getElementById("root")!).render(<App />);
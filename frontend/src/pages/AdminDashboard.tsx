@@ -17,6 +17,7 @@ const AdminDashboard = () => {
   });
   const [recentUsers, setRecentUsers] = useState([]);
   const [recentBookings, setRecentBookings] = useState([]);
+  const [statusCounts, setStatusCounts] = useState<Record<string, number>>({});
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
@@ -25,21 +26,25 @@ const AdminDashboard = () => {
       try {
         console.log("Fetching admin data from backend...");
         
-        const [usersRes, providersRes, bookingsRes, complaintsRes] = await Promise.all([
-          fetch(`${BACKEND_URL}/api/admin/users`),
-          fetch(`${BACKEND_URL}/api/admin/providers`),
-          fetch(`${BACKEND_URL}/api/admin/bookings`),
-          fetch(`${BACKEND_URL}/api/admin/complaints`),
+        // Totals come from the paged endpoints' estimates and status counts from the rollup stats,
+        // so the dashboard never downloads whole tables
+        const [usersRes, providersRes, bookingsRes, complaintsRes, statsRes] = await Promise.all([
+          fetch(`${BACKEND_URL}/api/admin/users/page?size=5&sort=createdAt&direction=desc`),
+          fetch(`${BACKEND_URL}/api/admin/providers/page?size=1`),
+          fetch(`${BACKEND_URL}/api/admin/bookings/page?size=5&sort=createdAt&direction=desc`),
+          fetch(`${BACKEND_URL}/api/admin/complaints/page?size=1&status=OPEN`),
+          fetch(`${BACKEND_URL}/api/admin/stats`),
         ]);
 
         console.log("Response statuses:", {
           users: usersRes.status,
           providers: providersRes.status,
           bookings: bookingsRes.status,
-          complaints: complaintsRes.status
+          complaints: complaintsRes.status,
+          stats: statsRes.status
         });
 
-        if (!usersRes.ok || !providersRes.ok || !bookingsRes.ok || !complaintsRes.ok) {
+        if (!usersRes.ok || !providersRes.ok || !bookingsRes.ok || !complaintsRes.ok || !statsRes.ok) {
           throw new Error("Failed to fetch data from backend");
         }
 
@@ -47,19 +52,19 @@ const AdminDashboard = () => {
         const providers = await providersRes.json();
         const bookings = await bookingsRes.json();
         const complaints = await complaintsRes.json();
+        const bookingStats = await statsRes.json();
 
         setStats({
-          totalUsers: users.length,
-          totalProviders: providers.length,
-          totalBookings: bookings.length,
-          activeComplaints: complaints.filter(c => c.status === "OPEN" || c.status === "Active").length,
+          totalUsers: users.estimatedTotal ?? 0,
+          totalProviders: providers.estimatedTotal ?? 0,
+          totalBookings: bookings.estimatedTotal ?? 0,
+          activeComplaints: complaints.estimatedTotal ?? 0,
         });
+        setStatusCounts(bookingStats.bookingsByStatus || {});
 
-        // Get recent users (last 5)
-        setRecentUsers(users.slice(-5).reverse());
-        
-        // Get recent bookings (last 5)
-        setRecentBookings(bookings.slice(-5).reverse());
+        // Newest first already
+        setRecentUsers(users.items);
+        setRecentBookings(bookings.items);
 
       } catch (error) {
         console.error("Failed to fetch admin dashboard data:", error);
@@ -220,9 +225,9 @@ const AdminDashboard = () => {
                     <CheckCircle className="h-6 w-6 text-green-600" />
                   </div>
                   <div>
-                    <p className="text-sm text-muted-foreground">Completed bookings awaiting payment</p>
+                    <p className="text-sm text-muted-foreground">Completed bookings awaiting payment (30 days)</p>
                     <p className="text-2xl font-bold">
-                      {recentBookings.filter(b => b.status === 'COMPLETED').length}
+                      {statusCounts.COMPLETED ?? 0}
                     </p>
                   </div>
                 </div>
@@ -236,9 +241,9 @@ const AdminDashboard = () => {
                     <Clock className="h-6 w-6 text-yellow-600" />
                   </div>
                   <div>
-                    <p className="text-sm text-muted-foreground">Pending Bookings</p>
+                    <p className="text-sm text-muted-foreground">Pending Bookings (30 days)</p>
                     <p className="text-2xl font-bold">
-                      {recentBookings.filter(b => b.status === 'PENDING').length}
+                      {statusCounts.PENDING ?? 0}
                     </p>
                   </div>
                 </div>
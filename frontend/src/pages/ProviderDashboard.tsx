@@ -19,6 +19,16 @@ type Booking = {
   status: BookingStatus;
 };
 
+type ProviderDashboardSummary = {
+  bookingsByStatus: Partial<Record<BookingStatus, number>>;
+  totalBookings: number;
+  upcomingBookings: Booking[];
+  earnings: number;
+  averageRating: number | null;
+  reviewCount: number;
+  unreadNotifications: number;
+};
+
 type ProviderSession = {
   id: number;                         // providerId returned by backend auth
   role: "SERVICE_PROVIDER" | "USER" | "ADMIN";
@@ -51,6 +61,7 @@ const ProviderDashboard = () => {
 
   const [bookings, setBookings] = useState<Booking[]>([]);
   const [loading, setLoading] = useState(false);
+  const [summary, setSummary] = useState<ProviderDashboardSummary | null>(null);
 
   const getStatusBadge = (status: BookingStatus) => {
     const variants: Record<BookingStatus, "default" | "secondary" | "destructive" | "outline"> = {
@@ -89,6 +100,24 @@ const ProviderDashboard = () => {
     }
   };
 
+  // Counts, earnings and rating come pre-aggregated from the backend
+  const fetchSummary = async () => {
+    if (!providerId || session?.role !== "SERVICE_PROVIDER") return;
+    try {
+      const res = await fetch(`${BACKEND_BASE}/api/provider/${providerId}/dashboard`, {
+        method: "GET",
+        headers: { Accept: "application/json" },
+        mode: "cors",
+      });
+      if (!res.ok) {
+        throw new Error(`Failed to load dashboard (status ${res.status})`);
+      }
+      setSummary((await res.json()) as ProviderDashboardSummary);
+    } catch (e) {
+      console.error("❌ Failed to load dashboard summary:", e);
+    }
+  };
+
   const updateStatus = async (bookingId: number, status: BookingStatus) => {
     try {
       const res = await fetch(`${BACKEND_BASE}/api/bookings/${bookingId}/status`, {
@@ -103,6 +132,7 @@ const ProviderDashboard = () => {
       }
       const updated = (await res.json()) as Booking;
       setBookings((prev) => prev.map((b) => (b.bookingId === bookingId ? updated : b)));
+      fetchSummary();
 
       const msg = status === "ACCEPTED" ? "accepted" : status === "REJECTED" ? "rejected" : "updated";
       toast({ title: "Success", description: `Booking ${msg}` });
@@ -113,12 +143,15 @@ const ProviderDashboard = () => {
 
   useEffect(() => {
     fetchBookings();
+    fetchSummary();
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [providerId]);
 
-  const totalBookings = bookings.length;
-  const completedCount = bookings.filter((b) => b.status === "COMPLETED").length;
-  const averageRating = 4.8; // hook up to aggregates later if desired
+  const totalBookings = summary?.totalBookings ?? bookings.length;
+  const completedCount =
+    (summary?.bookingsByStatus.COMPLETED ?? 0) + (summary?.bookingsByStatus.PAID ?? 0);
+  const averageRating = summary?.averageRating != null ? summary.averageRating.toFixed(1) : "–";
+  const earnings = summary?.earnings ?? 0;
 
   return (
     <DashboardLayout
@@ -135,7 +168,7 @@ const ProviderDashboard = () => {
         </div>
 
         {/* Stats Cards */}
-        <div className="grid sm:grid-cols-3 gap-4">
+        <div className="grid sm:grid-cols-2 lg:grid-cols-4 gap-4">
           <Card>
             <CardContent className="pt-6">
               <div className="text-center">
@@ -152,11 +185,21 @@ const ProviderDashboard = () => {
               </div>
             </CardContent>
           </Card>
+          <Card>
+            <CardContent className="pt-6">
+              <div className="text-center">
+                <p className="text-3xl font-bold text-foreground">₹{earnings}</p>
+                <p className="text-sm text-muted-foreground">Earnings</p>
+              </div>
+            </CardContent>
+          </Card>
           <Card>
             <CardContent className="pt-6">
               <div className="text-center">
                 <p className="text-3xl font-bold text-foreground">{averageRating}</p>
-                <p className="text-sm text-muted-foreground">Average Rating</p>
+                <p className="text-sm text-muted-foreground">
+                  Average Rating{summary ? ` (${summary.reviewCount})` : ""}
+                </p>
               </div>
             </CardContent>
           </Card>
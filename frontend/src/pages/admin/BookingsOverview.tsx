@@ -1,7 +1,10 @@
-import { useEffect, useState } from "react";
+import { useState } from "react";
 import { useLocation } from "react-router-dom";
 import DashboardLayout from "../../components/DashboardLayout";
+import { Button } from "../../components/ui/button";
+import { Input } from "../../components/ui/input";
 import { Table, TableBody, TableCell, TableHead, TableHeader, TableRow } from "../../components/ui/table";
+import { useKeysetPage } from "../../hooks/use-keyset-page";
 import { TrendingUp, Users, Wrench, Calendar, AlertCircle } from "lucide-react";
 
 // const BACKEND_URL = "http://localhost:8080";
@@ -9,8 +12,11 @@ const BACKEND_URL = import.meta.env.VITE_API_BASE || "http://localhost:8080";
 
 const BookingsOverview = () => {
   const location = useLocation();
-  const [bookings, setBookings] = useState([]);
-  const [loading, setLoading] = useState(false);
+  const [filters, setFilters] = useState({ status: "", serviceType: "", from: "", to: "" });
+  const { items: bookings, loading, hasMore, loadMore, estimatedTotal, totalApproximate } = useKeysetPage<any>(
+    `${BACKEND_URL}/api/admin/bookings/page`,
+    { ...filters, sort: "createdAt", direction: "desc" }
+  );
 
   const menuItems = [
     { label: "Dashboard", icon: <TrendingUp className="h-5 w-5" />, path: "/admin-dashboard" },
@@ -20,74 +26,102 @@ const BookingsOverview = () => {
     { label: "Complaints", icon: <AlertCircle className="h-5 w-5" />, path: "/admin-dashboard/complaints" },
   ];
 
-  useEffect(() => {
-    const fetchBookings = async () => {
-      setLoading(true);
-      try {
-        console.log("Fetching bookings from:", `${BACKEND_URL}/api/admin/bookings`);
-        const res = await fetch(`${BACKEND_URL}/api/admin/bookings`);
-        
-        console.log("Bookings response status:", res.status);
-        
-        if (!res.ok) {
-          const errorText = await res.text();
-          console.error("Bookings API error:", errorText);
-          throw new Error(`Failed to fetch: ${res.status}`);
-        }
-        
-        const data = await res.json();
-        console.log("✅ Bookings fetched:", data.length);
-        setBookings(data);
-      } catch (error) {
-        console.error("❌ Failed to load bookings:", error);
-      }
-      setLoading(false);
-    };
-    fetchBookings();
-  }, []);
-
   return (
     <DashboardLayout title="Admin Dashboard" menuItems={menuItems} currentPath={location.pathname}>
       <h2 className="text-2xl font-bold mb-4">Booking Overview</h2>
-      {loading ? (
+      <form
+        className="flex flex-wrap items-center gap-2 mb-4"
+        onSubmit={(e) => {
+          e.preventDefault();
+          setFilters({ ...filters });
+        }}
+      >
+        <Input
+          value={filters.serviceType}
+          onChange={(e) => setFilters({ ...filters, serviceType: e.target.value })}
+          placeholder="Service type"
+          className="max-w-[180px]"
+        />
+        <select
+          value={filters.status}
+          onChange={(e) => setFilters({ ...filters, status: e.target.value })}
+          className="h-10 rounded-md border border-input bg-background px-3 text-sm"
+        >
+          <option value="">All statuses</option>
+          <option key="PENDING" value="PENDING">PENDING</option>
+          <option key="ACCEPTED" value="ACCEPTED">ACCEPTED</option>
+          <option key="REJECTED" value="REJECTED">REJECTED</option>
+          <option key="COMPLETED" value="COMPLETED">COMPLETED</option>
+          <option key="PAID" value="PAID">PAID</option>
+          <option key="CANCELLED" value="CANCELLED">CANCELLED</option>
+        </select>
+        <Input
+          type="date"
+          value={filters.from}
+          onChange={(e) => setFilters({ ...filters, from: e.target.value })}
+          className="max-w-[170px]"
+        />
+        <Input
+          type="date"
+          value={filters.to}
+          onChange={(e) => setFilters({ ...filters, to: e.target.value })}
+          className="max-w-[170px]"
+        />
+        <Button type="submit" variant="outline">Search</Button>
+        {estimatedTotal !== null && (
+          <span className="text-sm text-muted-foreground">
+            Showing {bookings.length} of {totalApproximate ? "~" : ""}{estimatedTotal}
+          </span>
+        )}
+      </form>
+      {loading && bookings.length === 0 ? (
         <p>Loading bookings...</p>
       ) : bookings.length === 0 ? (
         <p className="text-muted-foreground">No bookings found in the database.</p>
       ) : (
-        <Table>
-          <TableHeader>
-            <TableRow>
-              <TableHead>Booking ID</TableHead>
-              <TableHead>User ID</TableHead>
-              <TableHead>Provider ID</TableHead>
-              <TableHead>Service Type</TableHead>
-              <TableHead>Date</TableHead>
-              <TableHead>Time</TableHead>
-              <TableHead>Status</TableHead>
-            </TableRow>
-          </TableHeader>
-          <TableBody>
-            {bookings.map((booking) => (
-              <TableRow key={booking.bookingId}>
-                <TableCell>{booking.bookingId}</TableCell>
-                <TableCell>{booking.userId}</TableCell>
-                <TableCell>{booking.providerId}</TableCell>
-                <TableCell>{booking.serviceType}</TableCell>
-                <TableCell>{booking.bookingDate}</TableCell>
-                <TableCell>{booking.bookingTime}</TableCell>
-                <TableCell>
-                  <span className={`px-2 py-1 rounded text-xs ${
-                    booking.status === 'CONFIRMED' ? 'bg-green-100 text-green-800' :
-                    booking.status === 'PENDING' ? 'bg-yellow-100 text-yellow-800' :
-                    'bg-gray-100 text-gray-800'
-                  }`}>
-                    {booking.status}
-                  </span>
-                </TableCell>
+        <>
+          <Table>
+            <TableHeader>
+              <TableRow>
+                <TableHead>Booking ID</TableHead>
+                <TableHead>User ID</TableHead>
+                <TableHead>Provider ID</TableHead>
+                <TableHead>Service Type</TableHead>
+                <TableHead>Date</TableHead>
+                <TableHead>Time</TableHead>
+                <TableHead>Status</TableHead>
               </TableRow>
-            ))}
-          </TableBody>
-        </Table>
+            </TableHeader>
+            <TableBody>
+              {bookings.map((booking) => (
+                <TableRow key={booking.bookingId}>
+                  <TableCell>{booking.bookingId}</TableCell>
+                  <TableCell>{booking.userId}</TableCell>
+                  <TableCell>{booking.providerId}</TableCell>
+                  <TableCell>{booking.serviceType}</TableCell>
+                  <TableCell>{booking.bookingDate}</TableCell>
+                  <TableCell>{booking.bookingTime}</TableCell>
+                  <TableCell>
+                    <span className={`px-2 py-1 rounded text-xs ${
+                      booking.status === 'CONFIRMED' ? 'bg-green-100 text-green-800' :
+                      booking.status === 'PENDING' ? 'bg-yellow-100 text-yellow-800' :
+                      'bg-gray-100 text-gray-800'
+                    }`}>
+                      {booking.status}
+                    </span>
+                  </TableCell>
+                </TableRow>
+              ))}
+            </TableBody>
+          </Table>
+          {hasMore && (
+            <div className="flex justify-center mt-4">
+              <Button variant="outline" onClick={loadMore} disabled={loading}>
+                {loading ? "Loading..." : "Load more"}
+              </Button>
+            </div>
+          )}
+        </>
       )}
     </DashboardLayout>
   );
@@ -1,7 +1,10 @@
-import { useEffect, useState } from "react";
+import { useState } from "react";
 import { useLocation } from "react-router-dom";
 import DashboardLayout from "../../components/DashboardLayout";
+import { Button } from "../../components/ui/button";
+import { Input } from "../../components/ui/input";
 import { Table, TableBody, TableCell, TableHead, TableHeader, TableRow } from "../../components/ui/table";
+import { useKeysetPage } from "../../hooks/use-keyset-page";
 import { TrendingUp, Users, Wrench, Calendar, AlertCircle } from "lucide-react";
 
 // const BACKEND_URL = "http://localhost:8080";
@@ -9,8 +12,12 @@ const BACKEND_URL = import.meta.env.VITE_API_BASE || "http://localhost:8080";
 
 const ComplaintsList = () => {
   const location = useLocation();
-  const [complaints, setComplaints] = useState([]);
-  const [loading, setLoading] = useState(false);
+  const [search, setSearch] = useState("");
+  const [filters, setFilters] = useState({ q: "", status: "" });
+  const { items: complaints, loading, hasMore, loadMore, estimatedTotal, totalApproximate } = useKeysetPage<any>(
+    `${BACKEND_URL}/api/admin/complaints/page`,
+    { ...filters, sort: "createdAt", direction: "desc" }
+  );
 
   const menuItems = [
     { label: "Dashboard", icon: <TrendingUp className="h-5 w-5" />, path: "/admin-dashboard" },
@@ -20,72 +27,85 @@ const ComplaintsList = () => {
     { label: "Complaints", icon: <AlertCircle className="h-5 w-5" />, path: "/admin-dashboard/complaints" },
   ];
 
-  useEffect(() => {
-    const fetchComplaints = async () => {
-      setLoading(true);
-      try {
-        console.log("Fetching complaints from:", `${BACKEND_URL}/api/admin/complaints`);
-        const res = await fetch(`${BACKEND_URL}/api/admin/complaints`);
-        
-        console.log("Complaints response status:", res.status);
-        
-        if (!res.ok) {
-          const errorText = await res.text();
-          console.error("Complaints API error:", errorText);
-          throw new Error(`Failed to fetch: ${res.status}`);
-        }
-        
-        const data = await res.json();
-        console.log("✅ Complaints fetched:", data.length);
-        setComplaints(data);
-      } catch (error) {
-        console.error("❌ Failed to load complaints:", error);
-      }
-      setLoading(false);
-    };
-    fetchComplaints();
-  }, []);
-
   return (
     <DashboardLayout title="Admin Dashboard" menuItems={menuItems} currentPath={location.pathname}>
       <h2 className="text-2xl font-bold mb-4">Complaints</h2>
-      {loading ? (
+      <form
+        className="flex flex-wrap items-center gap-2 mb-4"
+        onSubmit={(e) => {
+          e.preventDefault();
+          setFilters({ ...filters, q: search });
+        }}
+      >
+        <Input
+          value={search}
+          onChange={(e) => setSearch(e.target.value)}
+          placeholder="Search complaint text"
+          className="max-w-xs"
+        />
+        <select
+          value={filters.status}
+          onChange={(e) => setFilters({ ...filters, status: e.target.value })}
+          className="h-10 rounded-md border border-input bg-background px-3 text-sm"
+        >
+          <option value="">All statuses</option>
+          <option key="OPEN" value="OPEN">OPEN</option>
+          <option key="IN_PROGRESS" value="IN_PROGRESS">IN_PROGRESS</option>
+          <option key="RESOLVED" value="RESOLVED">RESOLVED</option>
+        </select>
+        <Button type="submit" variant="outline">Search</Button>
+        {estimatedTotal !== null && (
+          <span className="text-sm text-muted-foreground">
+            Showing {complaints.length} of {totalApproximate ? "~" : ""}{estimatedTotal}
+          </span>
+        )}
+      </form>
+      {loading && complaints.length === 0 ? (
         <p>Loading complaints...</p>
       ) : complaints.length === 0 ? (
         <p className="text-muted-foreground">No complaints found in the database.</p>
       ) : (
-        <Table>
-          <TableHeader>
-            <TableRow>
-              <TableHead>Complaint ID</TableHead>
-              <TableHead>User ID</TableHead>
-              <TableHead>Provider ID</TableHead>
-              <TableHead>Message</TableHead>
-              <TableHead>Status</TableHead>
-              <TableHead>Response</TableHead>
-            </TableRow>
-          </TableHeader>
-          <TableBody>
-            {complaints.map((c) => (
-              <TableRow key={c.complaintId}>
-                <TableCell>{c.complaintId}</TableCell>
-                <TableCell>{c.userId}</TableCell>
-                <TableCell>{c.providerId ?? "-"}</TableCell>
-                <TableCell className="max-w-xs truncate">{c.message}</TableCell>
-                <TableCell>
-                  <span className={`px-2 py-1 rounded text-xs ${
-                    c.status === 'OPEN' ? 'bg-red-100 text-red-800' :
-                    c.status === 'RESOLVED' ? 'bg-green-100 text-green-800' :
-                    'bg-gray-100 text-gray-800'
-                  }`}>
-                    {c.status}
-                  </span>
-                </TableCell>
-                <TableCell className="max-w-xs truncate">{c.response ?? "-"}</TableCell>
+        <>
+          <Table>
+            <TableHeader>
+              <TableRow>
+                <TableHead>Complaint ID</TableHead>
+                <TableHead>User ID</TableHead>
+                <TableHead>Provider ID</TableHead>
+                <TableHead>Message</TableHead>
+                <TableHead>Status</TableHead>
+                <TableHead>Response</TableHead>
               </TableRow>
-            ))}
-          </TableBody>
-        </Table>
+            </TableHeader>
+            <TableBody>
+              {complaints.map((c) => (
+                <TableRow key={c.complaintId}>
+                  <TableCell>{c.complaintId}</TableCell>
+                  <TableCell>{c.userId}</TableCell>
+                  <TableCell>{c.providerId ?? "-"}</TableCell>
+                  <TableCell className="max-w-xs truncate">{c.message}</TableCell>
+                  <TableCell>
+                    <span className={`px-2 py-1 rounded text-xs ${
+                      c.status === 'OPEN' ? 'bg-red-100 text-red-800' :
+                      c.status === 'RESOLVED' ? 'bg-green-100 text-green-800' :
+                      'bg-gray-100 text-gray-800'
+                    }`}>
+                      {c.status}
+                    </span>
+                  </TableCell>
+                  <TableCell className="max-w-xs truncate">{c.response ?? "-"}</TableCell>
+                </TableRow>
+              ))}
+            </TableBody>
+          </Table>
+          {hasMore && (
+            <div className="flex justify-center mt-4">
+              <Button variant="outline" onClick={loadMore} disabled={loading}>
+                {loading ? "Loading..." : "Load more"}
+              </Button>
+            </div>
+          )}
+        </>
       )}
     </DashboardLayout>
   );
@@ -1,7 +1,10 @@
-import { useEffect, useState } from "react";
+import { useState } from "react";
 import { useLocation } from "react-router-dom";
 import DashboardLayout from "../../components/DashboardLayout";
+import { Button } from "../../components/ui/button";
+import { Input } from "../../components/ui/input";
 import { Table, TableBody, TableCell, TableHead, TableHeader, TableRow } from "../../components/ui/table";
+import { useKeysetPage } from "../../hooks/use-keyset-page";
 import { TrendingUp, Users, Wrench, Calendar, AlertCircle } from "lucide-react";
 
 // const BACKEND_URL = "http://localhost:8080";
@@ -9,8 +12,12 @@ const BACKEND_URL = import.meta.env.VITE_API_BASE || "http://localhost:8080";
 
 const ManageProviders = () => {
   const location = useLocation();
-  const [providers, setProviders] = useState([]);
-  const [loading, setLoading] = useState(false);
+  const [search, setSearch] = useState("");
+  const [filters, setFilters] = useState({ q: "", serviceType: "" });
+  const { items: providers, loading, hasMore, loadMore, estimatedTotal, totalApproximate } = useKeysetPage<any>(
+    `${BACKEND_URL}/api/admin/providers/page`,
+    { ...filters, sort: "createdAt", direction: "desc" }
+  );
 
   const menuItems = [
     { label: "Dashboard", icon: <TrendingUp className="h-5 w-5" />, path: "/admin-dashboard" },
@@ -20,66 +27,75 @@ const ManageProviders = () => {
     { label: "Complaints", icon: <AlertCircle className="h-5 w-5" />, path: "/admin-dashboard/complaints" },
   ];
 
-  useEffect(() => {
-    const fetchProviders = async () => {
-      setLoading(true);
-      try {
-        console.log("Fetching providers from:", `${BACKEND_URL}/api/admin/providers`);
-        const res = await fetch(`${BACKEND_URL}/api/admin/providers`);
-        
-        console.log("Providers response status:", res.status);
-        
-        if (!res.ok) {
-          const errorText = await res.text();
-          console.error("Providers API error:", errorText);
-          throw new Error(`Failed to fetch: ${res.status}`);
-        }
-        
-        const data = await res.json();
-        console.log("✅ Providers fetched:", data.length);
-        setProviders(data);
-      } catch (error) {
-        console.error("❌ Failed to load providers:", error);
-      }
-      setLoading(false);
-    };
-    fetchProviders();
-  }, []);
-
   return (
     <DashboardLayout title="Admin Dashboard" menuItems={menuItems} currentPath={location.pathname}>
       <h2 className="text-2xl font-bold mb-4">Manage Providers</h2>
-      {loading ? (
+      <form
+        className="flex flex-wrap items-center gap-2 mb-4"
+        onSubmit={(e) => {
+          e.preventDefault();
+          setFilters({ ...filters, q: search });
+        }}
+      >
+        <Input
+          value={search}
+          onChange={(e) => setSearch(e.target.value)}
+          placeholder="Search name, contact or location"
+          className="max-w-xs"
+        />
+        <Input
+          value={filters.serviceType}
+          onChange={(e) => setFilters({ ...filters, serviceType: e.target.value })}
+          placeholder="Service type"
+          className="max-w-[180px]"
+        />
+        <Button type="submit" variant="outline">Search</Button>
+        {estimatedTotal !== null && (
+          <span className="text-sm text-muted-foreground">
+            Showing {providers.length} of {totalApproximate ? "~" : ""}{estimatedTotal}
+          </span>
+        )}
+      </form>
+      {loading && providers.length === 0 ? (
         <p>Loading providers...</p>
       ) : providers.length === 0 ? (
         <p className="text-muted-foreground">No providers found in the database.</p>
       ) : (
-        <Table>
-          <TableHeader>
-            <TableRow>
-              <TableHead>Provider ID</TableHead>
-              <TableHead>Name</TableHead>
-              <TableHead>Email</TableHead>
-              <TableHead>Service Type</TableHead>
-              <TableHead>Location</TableHead>
-              <TableHead>Experience</TableHead>
-              <TableHead>Price</TableHead>
-            </TableRow>
-          </TableHeader>
-          <TableBody>
-            {providers.map((provider) => (
-              <TableRow key={provider.providerId}>
-                <TableCell>{provider.providerId}</TableCell>
-                <TableCell>{provider.fullName}</TableCell>
-                <TableCell>{provider.email}</TableCell>
-                <TableCell>{provider.serviceType}</TableCell>
-                <TableCell>{provider.location}</TableCell>
-                <TableCell>{provider.experience || "-"}</TableCell>
-                <TableCell>₹{provider.price || "-"}</TableCell>
+        <>
+          <Table>
+            <TableHeader>
+              <TableRow>
+                <TableHead>Provider ID</TableHead>
+                <TableHead>Name</TableHead>
+                <TableHead>Email</TableHead>
+                <TableHead>Service Type</TableHead>
+                <TableHead>Location</TableHead>
+                <TableHead>Experience</TableHead>
+                <TableHead>Price</TableHead>
               </TableRow>
-            ))}
-          </TableBody>
-        </Table>
+            </TableHeader>
+            <TableBody>
+              {providers.map((provider) => (
+                <TableRow key={provider.providerId}>
+                  <TableCell>{provider.providerId}</TableCell>
+                  <TableCell>{provider.fullName}</TableCell>
+                  <TableCell>{provider.email}</TableCell>
+                  <TableCell>{provider.serviceType}</TableCell>
+                  <TableCell>{provider.location}</TableCell>
+                  <TableCell>{provider.experience || "-"}</TableCell>
+                  <TableCell>₹{provider.price || "-"}</TableCell>
+                </TableRow>
+              ))}
+            </TableBody>
+          </Table>
+          {hasMore && (
+            <div className="flex justify-center mt-4">
+              <Button variant="outline" onClick={loadMore} disabled={loading}>
+                {loading ? "Loading..." : "Load more"}
+              </Button>
+            </div>
+          )}
+        </>
       )}
     </DashboardLayout>
   );
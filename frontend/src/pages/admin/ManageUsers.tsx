@@ -1,7 +1,10 @@
-import { useEffect, useState } from "react";
+import { useState } from "react";
 import { useLocation } from "react-router-dom";
 import DashboardLayout from "../../components/DashboardLayout";
+import { Button } from "../../components/ui/button";
+import { Input } from "../../components/ui/input";
 import { Table, TableBody, TableCell, TableHead, TableHeader, TableRow } from "../../components/ui/table";
+import { useKeysetPage } from "../../hooks/use-keyset-page";
 import { TrendingUp, Users, Wrench, Calendar, AlertCircle } from "lucide-react";
 
 // const BACKEND_URL = "http://localhost:8080";
@@ -9,8 +12,12 @@ const BACKEND_URL = import.meta.env.VITE_API_BASE || "http://localhost:8080";
 
 const ManageUsers = () => {
   const location = useLocation();
-  const [users, setUsers] = useState([]);
-  const [loading, setLoading] = useState(false);
+  const [search, setSearch] = useState("");
+  const [filters, setFilters] = useState({ q: "" });
+  const { items: users, loading, hasMore, loadMore, estimatedTotal, totalApproximate } = useKeysetPage<any>(
+    `${BACKEND_URL}/api/admin/users/page`,
+    { ...filters, sort: "createdAt", direction: "desc" }
+  );
 
   const menuItems = [
     { label: "Dashboard", icon: <TrendingUp className="h-5 w-5" />, path: "/admin-dashboard" },
@@ -20,43 +27,6 @@ const ManageUsers = () => {
     { label: "Complaints", icon: <AlertCircle className="h-5 w-5" />, path: "/admin-dashboard/complaints" },
   ];
 
-  useEffect(() => {
-    const fetchUsers = async () => {
-      setLoading(true);
-      try {
-        const url = `${BACKEND_URL}/api/admin/users`;
-        console.log("Fetching users from:", url);
-        
-        const res = await fetch(url);
-        console.log("Response status:", res.status);
-        
-        if (!res.ok) {
-          const errorText = await res.text();
-          console.error("API error response:", errorText);
-          throw new Error(`HTTP error! Status: ${res.status}`);
-        }
-        
-        const contentType = res.headers.get('content-type');
-        if (!contentType || !contentType.includes('application/json')) {
-          const responseText = await res.text();
-          console.error("Non-JSON response:", responseText);
-          throw new Error('Response is not JSON');
-        }
-        
-        const data = await res.json();
-        console.log("✅ Users fetched successfully:", data);
-        setUsers(data);
-      } catch (error) {
-        console.error("❌ Failed to load users:", error);
-        setUsers([]);
-      } finally {
-        setLoading(false);
-      }
-    };
-    
-    fetchUsers();
-  }, []);
-
   // Helper function to get role display text and color
   const getRoleDisplay = (role) => {
     // Default to USER if role is null, undefined, or empty
@@ -75,8 +45,28 @@ const ManageUsers = () => {
     <DashboardLayout title="Admin Dashboard" menuItems={menuItems} currentPath={location.pathname}>
       <div className="space-y-4">
         <h2 className="text-2xl font-bold">Manage Users</h2>
+        <form
+          className="flex flex-wrap items-center gap-2 mb-4"
+          onSubmit={(e) => {
+            e.preventDefault();
+            setFilters({ ...filters, q: search });
+          }}
+        >
+          <Input
+            value={search}
+            onChange={(e) => setSearch(e.target.value)}
+            placeholder="Search name, email or mobile"
+            className="max-w-xs"
+          />
+          <Button type="submit" variant="outline">Search</Button>
+          {estimatedTotal !== null && (
+            <span className="text-sm text-muted-foreground">
+              Showing {users.length} of {totalApproximate ? "~" : ""}{estimatedTotal}
+            </span>
+          )}
+        </form>
         
-        {loading ? (
+        {loading && users.length === 0 ? (
           <div className="flex items-center justify-center py-8">
             <p className="text-muted-foreground">Loading users...</p>
           </div>
@@ -85,40 +75,49 @@ const ManageUsers = () => {
             <p className="text-muted-foreground">No users found in the database.</p>
           </div>
         ) : (
-          <div className="rounded-md border">
-            <Table>
-              <TableHeader>
-                <TableRow>
-                  <TableHead className="w-[100px]">User ID</TableHead>
-                  <TableHead className="min-w-[150px]">Name</TableHead>
-                  <TableHead className="min-w-[200px]">Email</TableHead>
-                  <TableHead className="min-w-[130px]">Mobile</TableHead>
-                  <TableHead className="min-w-[120px]">Location</TableHead>
-                  <TableHead className="min-w-[150px]">Role</TableHead>
-                </TableRow>
-              </TableHeader>
-              <TableBody>
-                {users.map((user) => {
-                  const roleDisplay = getRoleDisplay(user.role);
+          <>
+            <div className="rounded-md border">
+              <Table>
+                <TableHeader>
+                  <TableRow>
+                    <TableHead className="w-[100px]">User ID</TableHead>
+                    <TableHead className="min-w-[150px]">Name</TableHead>
+                    <TableHead className="min-w-[200px]">Email</TableHead>
+                    <TableHead className="min-w-[130px]">Mobile</TableHead>
+                    <TableHead className="min-w-[120px]">Location</TableHead>
+                    <TableHead className="min-w-[150px]">Role</TableHead>
+                  </TableRow>
+                </TableHeader>
+                <TableBody>
+                  {users.map((user) => {
+                    const roleDisplay = getRoleDisplay(user.role);
                   
-                  return (
-                    <TableRow key={user.userId}>
-                      <TableCell className="font-medium">{user.userId}</TableCell>
-                      <TableCell>{user.fullName || "N/A"}</TableCell>
-                      <TableCell>{user.email || "N/A"}</TableCell>
-                      <TableCell>{user.mobile || "N/A"}</TableCell>
-                      <TableCell>{user.location || "-"}</TableCell>
-                      <TableCell>
-                        <span className={`inline-flex items-center px-3 py-1 rounded-full text-xs font-semibold ${roleDisplay.color}`}>
-                          {roleDisplay.label}
-                        </span>
-                      </TableCell>
-                    </TableRow>
-                  );
-                })}
-              </TableBody>
-            </Table>
-          </div>
+                    return (
+                      <TableRow key={user.userId}>
+                        <TableCell className="font-medium">{user.userId}</TableCell>
+                        <TableCell>{user.fullName || "N/A"}</TableCell>
+                        <TableCell>{user.email || "N/A"}</TableCell>
+                        <TableCell>{user.mobile || "N/A"}</TableCell>
+                        <TableCell>{user.location || "-"}</TableCell>
+                        <TableCell>
+                          <span className={`inline-flex items-center px-3 py-1 rounded-full text-xs font-semibold ${roleDisplay.color}`}>
+                            {roleDisplay.label}
+                          </span>
+                        </TableCell>
+                      </TableRow>
+                    );
+                  })}
+                </TableBody>
+              </Table>
+            </div>
+            {hasMore && (
+              <div className="flex justify-center mt-4">
+                <Button variant="outline" onClick={loadMore} disabled={loading}>
+                  {loading ? "Loading..." : "Load more"}
+                </Button>
+              </div>
+            )}
+          </>
         )}
       </div>
     </DashboardLayout>
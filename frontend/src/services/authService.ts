@@ -29,6 +29,7 @@ interface AuthResponse {
   fullName: string;
   email: string;
   mobile: string;
+  token?: string;
 }
 
 // ============================================
@@ -222,6 +223,14 @@ class AuthService {
     return session ? session.id : null;
   }
 
+  /**
+   * Get signed session token from session
+   */
+  getToken(): string | null {
+    const session = this.getSession();
+    return session?.token ?? null;
+  }
+
   /**
    * Get user role from session
    */